@@ -0,0 +1,81 @@
+package com.example.githubList.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // SSE analiz stream'leri Tomcat thread'lerini tutmasın diye ayrı, sınırlı havuzda çalışır
+    @Bean
+    public ThreadPoolTaskExecutor analysisStreamExecutor(
+            @Value("${app.stream.threads:8}") int threads,
+            @Value("${app.stream.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Asenkron analiz işleri; kuyruk dolunca yeni işler reddedilir (bkz. AnalysisJobService)
+    @Bean
+    public ThreadPoolTaskExecutor analysisJobExecutor(
+            @Value("${app.jobs.threads:4}") int threads,
+            @Value("${app.jobs.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Toplu analizde cache'te olmayan repolar bu havuzda işlenir; thread sayısı GitHub / Groq
+    // limitlerine göre eşzamanlı dış çağrı sayısını sınırlar
+    @Bean
+    public ThreadPoolTaskExecutor analysisBatchExecutor(
+            @Value("${app.batch.concurrency:4}") int concurrency,
+            @Value("${app.batch.queue-capacity:5000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-batch-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Soft TTL'i geçmiş analizlerin arka plan yenilemesi; kuyruk doluysa yenileme sonraki isteğe kalır
+    @Bean
+    public ThreadPoolTaskExecutor analysisRefreshExecutor(
+            @Value("${app.analysis.refresh-threads:2}") int threads,
+            @Value("${app.analysis.refresh-queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Arama sonuçlarının bir sonraki sayfası kullanıcı istemeden önce bu havuzda çekilir
+    @Bean
+    public ThreadPoolTaskExecutor searchPrefetchExecutor(
+            @Value("${app.github.search.prefetch-threads:2}") int threads,
+            @Value("${app.github.search.prefetch-queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-prefetch-");
+        executor.initialize();
+        return executor;
+    }
+}
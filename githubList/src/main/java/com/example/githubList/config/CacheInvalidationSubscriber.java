@@ -0,0 +1,62 @@
+package com.example.githubList.config;
+
+import com.example.githubList.service.CacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// Diğer replikalardan gelen L1 cache invalidation mesajlarını dinler.
+// Container bean olarak tanımlanmaz: Redis kapalıyken de uygulama açılabilsin diye
+// abonelik arka planda başlatılır ve erişilemezse periyodik olarak tekrar denenir.
+@Component
+public class CacheInvalidationSubscriber {
+
+    private static final long RETRY_INTERVAL_MILLIS = 30_000;
+
+    private final RedisMessageListenerContainer container;
+    private volatile boolean stopped;
+
+    @Autowired
+    public CacheInvalidationSubscriber(RedisConnectionFactory connectionFactory, CacheService cacheService) {
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheService, new ChannelTopic(CacheService.INVALIDATION_CHANNEL));
+        container.afterPropertiesSet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        Thread thread = new Thread(this::startWithRetry, "cache-invalidation-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void startWithRetry() {
+        while (!stopped && !container.isRunning()) {
+            try {
+                container.start();
+                System.out.println("Cache invalidation kanalına abone olundu");
+            } catch (Exception e) {
+                System.err.println("Cache invalidation aboneliği başarısız, tekrar denenecek: " + e.getMessage());
+                try {
+                    Thread.sleep(RETRY_INTERVAL_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        stopped = true;
+        container.destroy();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.githubList.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${app.http.max-total:50}")
+    private int maxTotal;
+
+    // Her host (GitHub, Groq) kendi route havuzunu kullanır
+    @Value("${app.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${app.http.connect-timeout:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${app.http.read-timeout:60000}")
+    private long readTimeoutMillis;
+
+    @Value("${app.http.pool-timeout:5000}")
+    private long poolTimeoutMillis;
+
+    @Value("${app.http.idle-evict:30}")
+    private long idleEvictSeconds;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+            .setTimeToLive(TimeValue.ofMinutes(5))
+            .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+            .build();
+
+        // Keep-alive bağlantılar yeniden kullanılır, gzip/deflate yanıtlar otomatik açılır
+        return HttpClients.custom()
+            .setConnectionManager(httpConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+            .build();
+    }
+
+    @Bean
+    public RestTemplate outboundRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(outboundHttpClient));
+    }
+
+    // Havuz metrikleri: toplam ve host bazında leased / pending / available
+    public static Map<String, Object> describePool(PoolingHttpClientConnectionManager connectionManager) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", describe(connectionManager.getTotalStats()));
+
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().getHostName(), describe(connectionManager.getStats(route)));
+        }
+        stats.put("routes", routes);
+        return stats;
+    }
+
+    private static Map<String, Object> describe(PoolStats poolStats) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("leased", poolStats.getLeased());
+        stats.put("pending", poolStats.getPending());
+        stats.put("idle", poolStats.getAvailable());
+        stats.put("max", poolStats.getMax());
+        return stats;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.githubList.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Periyodik arka plan işleri (ör. AnalysisStore write-behind flush, erişim sayaçları, cache ısıtma)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
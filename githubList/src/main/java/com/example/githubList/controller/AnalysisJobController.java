@@ -0,0 +1,73 @@
+package com.example.githubList.controller;
+
+import com.example.githubList.model.AnalysisJob;
+import com.example.githubList.service.AnalysisJobService;
+import com.example.githubList.util.RepoInputParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+@Controller
+public class AnalysisJobController {
+
+    private static final long SUBSCRIBE_TIMEOUT_MILLIS = 300_000;
+
+    @Autowired
+    private AnalysisJobService jobService;
+
+    // İşi kuyruğa alır ve hemen job id döner; aynı repo için bekleyen iş varsa o döner
+    @PostMapping("/api/analyze/jobs")
+    @ResponseBody
+    public ResponseEntity<Object> submitJob(@RequestParam String repoInput) {
+        String[] repoInfo = RepoInputParser.parse(repoInput);
+        if (repoInfo == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", RepoInputParser.INVALID_FORMAT_MESSAGE));
+        }
+
+        try {
+            AnalysisJob job = jobService.submit(repoInfo[0], repoInfo[1]);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", "Analiz kuyruğu dolu, lütfen biraz sonra tekrar deneyin."));
+        }
+    }
+
+    @GetMapping("/api/analyze/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<AnalysisJob> getJob(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    // İş bitince tek bir "done" olayı gönderen SSE aboneliği
+    @GetMapping(value = "/api/analyze/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable String jobId) {
+        Optional<AnalysisJob> job = jobService.getJob(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(SUBSCRIBE_TIMEOUT_MILLIS);
+        job.get().getCompletion().whenComplete((finishedJob, error) -> {
+            try {
+                emitter.send(SseEmitter.event().name("done").data(finishedJob, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // İstemci bağlantıyı kapatmış
+            }
+        });
+        return ResponseEntity.ok(emitter);
+    }
+}
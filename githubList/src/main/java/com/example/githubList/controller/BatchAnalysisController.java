@@ -0,0 +1,56 @@
+package com.example.githubList.controller;
+
+import com.example.githubList.service.BatchAnalysisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+@Controller
+public class BatchAnalysisController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final long BATCH_TIMEOUT_MILLIS = 1_800_000;
+
+    @Autowired
+    private BatchAnalysisService batchAnalysisService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.batch.max-size:500}")
+    private int maxBatchSize;
+
+    // Gövde: repo girdilerinin JSON dizisi. Yanıt: her repo hazır oldukça bir NDJSON satırı
+    @PostMapping(value = "/api/analyze/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<ResponseBodyEmitter> analyzeBatch(@RequestBody List<String> repoInputs) {
+        if (repoInputs.isEmpty() || repoInputs.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Toplu analiz 1 ile " + maxBatchSize + " arasında repo içermelidir");
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(BATCH_TIMEOUT_MILLIS);
+        batchAnalysisService.run(repoInputs, line -> send(emitter, line))
+            .whenComplete((ignored, error) -> emitter.complete());
+        return ResponseEntity.ok().contentType(NDJSON).body(emitter);
+    }
+
+    // ResponseBodyEmitter.send senkronize; farklı thread'lerden gelen satırlar karışmaz
+    private void send(ResponseBodyEmitter emitter, Map<String, Object> line) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(line) + "\n", MediaType.TEXT_PLAIN);
+        } catch (Exception e) {
+            // İstemci bağlantıyı kapatmış; kalan analizler yine de cache'lenir
+        }
+    }
+}
@@ -1,16 +1,68 @@
 package com.example.githubList.controller;
 
+import com.example.githubList.config.HttpClientConfig;
+import com.example.githubList.service.AnalysisJobService;
+import com.example.githubList.service.AnalysisStore;
 import com.example.githubList.service.CacheService;
+import com.example.githubList.service.GitHubApiService;
+import com.example.githubList.service.GroqRequestScheduler;
+import com.example.githubList.service.HotKeyWarmer;
+import com.example.githubList.service.LeaderboardService;
+import com.example.githubList.service.ReadmeCompactor;
+import com.example.githubList.service.ReadmeSimilarityIndex;
+import com.example.githubList.service.RepositoryAnalysisService;
+import com.example.githubList.service.RepositorySearchService;
+import com.example.githubList.service.SimilarityService;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Controller
 public class GitHubController {
 
     @Autowired
     private CacheService cacheService;
 
+    @Autowired
+    private RepositoryAnalysisService analysisService;
+
+    @Autowired
+    private GitHubApiService githubApiService;
+
+    @Autowired
+    private PoolingHttpClientConnectionManager httpConnectionManager;
+
+    @Autowired
+    private AnalysisJobService jobService;
+
+    @Autowired
+    private GroqRequestScheduler groqRequestScheduler;
+
+    @Autowired
+    private ReadmeCompactor readmeCompactor;
+
+    @Autowired
+    private AnalysisStore analysisStore;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private SimilarityService similarityService;
+
+    @Autowired
+    private ReadmeSimilarityIndex readmeSimilarityIndex;
+
+    @Autowired
+    private HotKeyWarmer hotKeyWarmer;
+
+    @Autowired
+    private RepositorySearchService searchService;
+
     @GetMapping("/")
     public String index() {
         return "redirect:/analyze";
@@ -33,4 +85,24 @@ public class GitHubController {
         boolean cacheAvailable = cacheService.isCacheAvailable();
         return "Uygulama çalışıyor. Cache durumu: " + (cacheAvailable ? "Aktif" : "Pasif");
     }
+
+    @GetMapping("/api/stats")
+    @ResponseBody
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("analysis", analysisService.getStats());
+        stats.put("cache", cacheService.getStats());
+        stats.put("jobs", jobService.getStats());
+        stats.put("github", githubApiService.getStats());
+        stats.put("groq", groqRequestScheduler.getStats());
+        stats.put("readme", readmeCompactor.getStats());
+        stats.put("store", analysisStore.getStats());
+        stats.put("leaderboard", leaderboardService.getStats());
+        stats.put("similarity", similarityService.getStats());
+        stats.put("readmeDuplicates", readmeSimilarityIndex.getStats());
+        stats.put("warmer", hotKeyWarmer.getStats());
+        stats.put("search", searchService.getStats());
+        stats.put("httpPool", HttpClientConfig.describePool(httpConnectionManager));
+        return stats;
+    }
 }
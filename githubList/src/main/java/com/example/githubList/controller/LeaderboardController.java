@@ -0,0 +1,50 @@
+package com.example.githubList.controller;
+
+import com.example.githubList.service.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+@Controller
+public class LeaderboardController {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Value("${app.leaderboard.max-page-size:100}")
+    private int maxPageSize;
+
+    // Örnek: /api/leaderboard?language=Java&dimension=learningValue&page=0&size=20
+    @GetMapping("/api/leaderboard")
+    @ResponseBody
+    public ResponseEntity<Object> leaderboard(
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = LeaderboardService.COMPOSITE) String dimension,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!LeaderboardService.isValidDimension(dimension)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Geçersiz boyut: " + dimension + " (geçerli: " + String.join(", ", LeaderboardService.DIMENSIONS) + ")");
+        }
+        if (page < 0 || size < 1 || size > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "page >= 0 ve size 1 ile " + maxPageSize + " arasında olmalıdır");
+        }
+
+        try {
+            return ResponseEntity.ok(leaderboardService.top(language, dimension, page, size));
+        } catch (Exception e) {
+            System.err.println("Leaderboard okuma hatası: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "Sıralama şu anda okunamıyor: " + e.getMessage()));
+        }
+    }
+}
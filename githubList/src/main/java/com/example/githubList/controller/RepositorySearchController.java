@@ -0,0 +1,103 @@
+package com.example.githubList.controller;
+
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.service.GitHubRateLimitException;
+import com.example.githubList.service.RepositorySearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Controller
+public class RepositorySearchController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // GitHub arama sorgusu uzunluk sınırı
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    @Autowired
+    private RepositorySearchService searchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Örnek: /api/search?q=web+framework&language=Java&page=1
+    // Yanıt: yıldıza göre sıralı her repo için bir NDJSON satırı; sonraki sayfa varsa X-Next-Page header'ı
+    @GetMapping("/api/search")
+    @ResponseBody
+    public ResponseEntity<Object> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "1") int page) {
+        if ((q == null || q.isBlank()) && (language == null || language.isBlank())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "q veya language parametresi gereklidir"));
+        }
+        if (q != null && q.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Sorgu en fazla " + MAX_QUERY_LENGTH + " karakter olabilir"));
+        }
+        int maxPage = RepositorySearchService.MAX_RESULTS / searchService.getPageSize();
+        if (page < 1 || page > maxPage) {
+            return ResponseEntity.badRequest().body(Map.of("error", "page 1 ile " + maxPage + " arasında olmalıdır"));
+        }
+
+        Optional<RepositorySearchService.SearchPage> result;
+        try {
+            result = searchService.search(language, q, page);
+        } catch (GitHubRateLimitException e) {
+            long retryAfter = Math.max(1, e.getRetryAt().getEpochSecond() - Instant.now().getEpochSecond());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(Map.of("error", e.getMessage()));
+        }
+        if (result.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", "GitHub araması başarısız oldu"));
+        }
+
+        RepositorySearchService.SearchPage searchPage = result.get();
+        List<GitHubRepository> repositories = searchPage.repositories();
+        int firstRank = (page - 1) * searchService.getPageSize() + 1;
+        StreamingResponseBody body = out -> {
+            for (int i = 0; i < repositories.size(); i++) {
+                Map<String, Object> line = line(repositories.get(i), firstRank + i, searchPage.cached());
+                out.write((objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(NDJSON)
+            .header("X-Cache", searchPage.cached() ? "HIT" : "MISS");
+        if (searchPage.hasMore()) {
+            response.header("X-Next-Page", String.valueOf(page + 1));
+        }
+        return response.body(body);
+    }
+
+    private static Map<String, Object> line(GitHubRepository repository, int rank, boolean cached) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("rank", rank);
+        line.put("repository", repository.getFullName());
+        line.put("description", repository.getDescription());
+        line.put("language", repository.getLanguage());
+        line.put("stars", repository.getStargazersCount());
+        line.put("forks", repository.getForksCount());
+        line.put("updatedAt", repository.getUpdatedAt() != null ? repository.getUpdatedAt().toString() : null);
+        line.put("url", repository.getHtmlUrl());
+        line.put("cached", cached);
+        return line;
+    }
+}
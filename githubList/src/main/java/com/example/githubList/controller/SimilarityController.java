@@ -0,0 +1,48 @@
+package com.example.githubList.controller;
+
+import com.example.githubList.service.SimilarityService;
+import com.example.githubList.util.RepoInputParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Controller
+public class SimilarityController {
+
+    @Autowired
+    private SimilarityService similarityService;
+
+    // Örnek: /api/similar?repo=spring-projects/spring-boot&k=10 (repo daha önce analiz edilmiş olmalı)
+    @GetMapping("/api/similar")
+    @ResponseBody
+    public ResponseEntity<Object> similar(@RequestParam String repo, @RequestParam(defaultValue = "10") int k) {
+        String[] repoInfo = RepoInputParser.parse(repo);
+        if (repoInfo == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", RepoInputParser.INVALID_FORMAT_MESSAGE));
+        }
+        if (k < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "k en az 1 olmalıdır"));
+        }
+
+        try {
+            return similarityService.findSimilar(repoInfo[0], repoInfo[1], k)
+                .<ResponseEntity<Object>>map(items -> {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("repository", repoInfo[0] + "/" + repoInfo[1]);
+                    body.put("items", items);
+                    return ResponseEntity.ok(body);
+                })
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Repo henüz analiz edilmedi: " + repoInfo[0] + "/" + repoInfo[1])));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
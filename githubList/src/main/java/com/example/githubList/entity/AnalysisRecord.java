@@ -0,0 +1,157 @@
+package com.example.githubList.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Groq analizlerinin kalıcı kopyası: Redis boşaldığında (flush, restart) AI çağrısı yapmadan geri yüklenir.
+// Puanlar sorgulanabilsin diye ayrı kolonlarda, metinler AnalysisCodec formatında JSON olarak saklanır.
+@Entity
+@Table(name = "repository_analysis", indexes = {
+    @Index(name = "idx_analysis_repo_id", columnList = "repo_id", unique = true),
+    @Index(name = "idx_analysis_cached_at", columnList = "cached_at")
+})
+public class AnalysisRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_record_seq")
+    @SequenceGenerator(name = "analysis_record_seq", sequenceName = "analysis_record_seq", allocationSize = 50)
+    private Long id;
+
+    // CacheService.canonicalRepoId formatı: owner/repo (küçük harf)
+    @Column(name = "repo_id", nullable = false, length = 200)
+    private String repoId;
+
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(name = "prompt_version")
+    private int promptVersion;
+
+    @Column(name = "technology_quality")
+    private int technologyQuality;
+
+    @Column(name = "learning_value")
+    private int learningValue;
+
+    @Column(name = "career_growth")
+    private int careerGrowth;
+
+    @Column(name = "community_activity")
+    private int communityActivity;
+
+    private int recency;
+
+    @Column(name = "average_score")
+    private double averageScore;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    // Analizin son kez üretildiği / doğrulandığı an (Redis'teki soft TTL ile aynı referans)
+    @Column(name = "cached_at", nullable = false)
+    private Instant cachedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRepoId() {
+        return repoId;
+    }
+
+    public void setRepoId(String repoId) {
+        this.repoId = repoId;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public int getPromptVersion() {
+        return promptVersion;
+    }
+
+    public void setPromptVersion(int promptVersion) {
+        this.promptVersion = promptVersion;
+    }
+
+    public int getTechnologyQuality() {
+        return technologyQuality;
+    }
+
+    public void setTechnologyQuality(int technologyQuality) {
+        this.technologyQuality = technologyQuality;
+    }
+
+    public int getLearningValue() {
+        return learningValue;
+    }
+
+    public void setLearningValue(int learningValue) {
+        this.learningValue = learningValue;
+    }
+
+    public int getCareerGrowth() {
+        return careerGrowth;
+    }
+
+    public void setCareerGrowth(int careerGrowth) {
+        this.careerGrowth = careerGrowth;
+    }
+
+    public int getCommunityActivity() {
+        return communityActivity;
+    }
+
+    public void setCommunityActivity(int communityActivity) {
+        this.communityActivity = communityActivity;
+    }
+
+    public int getRecency() {
+        return recency;
+    }
+
+    public void setRecency(int recency) {
+        this.recency = recency;
+    }
+
+    public double getAverageScore() {
+        return averageScore;
+    }
+
+    public void setAverageScore(double averageScore) {
+        this.averageScore = averageScore;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCachedAt() {
+        return cachedAt;
+    }
+
+    public void setCachedAt(Instant cachedAt) {
+        this.cachedAt = cachedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
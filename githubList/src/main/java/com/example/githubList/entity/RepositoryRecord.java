@@ -0,0 +1,132 @@
+package com.example.githubList.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+// Analiz edilen repoların son bilinen GitHub metadata'sı (README hariç)
+@Entity
+@Table(name = "github_repository", indexes = {
+    @Index(name = "idx_repository_repo_id", columnList = "repo_id", unique = true),
+    @Index(name = "idx_repository_fetched_at", columnList = "fetched_at")
+})
+public class RepositoryRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "repository_record_seq")
+    @SequenceGenerator(name = "repository_record_seq", sequenceName = "repository_record_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "repo_id", nullable = false, length = 200)
+    private String repoId;
+
+    @Column(name = "github_id")
+    private Long githubId;
+
+    @Column(name = "full_name", length = 200)
+    private String fullName;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    @Column(length = 100)
+    private String language;
+
+    private Integer stars;
+
+    private Integer forks;
+
+    @Column(name = "pushed_at")
+    private LocalDateTime pushedAt;
+
+    @Column(name = "html_url", length = 300)
+    private String htmlUrl;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRepoId() {
+        return repoId;
+    }
+
+    public void setRepoId(String repoId) {
+        this.repoId = repoId;
+    }
+
+    public Long getGithubId() {
+        return githubId;
+    }
+
+    public void setGithubId(Long githubId) {
+        this.githubId = githubId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public Integer getStars() {
+        return stars;
+    }
+
+    public void setStars(Integer stars) {
+        this.stars = stars;
+    }
+
+    public Integer getForks() {
+        return forks;
+    }
+
+    public void setForks(Integer forks) {
+        this.forks = forks;
+    }
+
+    public LocalDateTime getPushedAt() {
+        return pushedAt;
+    }
+
+    public void setPushedAt(LocalDateTime pushedAt) {
+        this.pushedAt = pushedAt;
+    }
+
+    public String getHtmlUrl() {
+        return htmlUrl;
+    }
+
+    public void setHtmlUrl(String htmlUrl) {
+        this.htmlUrl = htmlUrl;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(Instant fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.githubList.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+// Asenkron analiz işi: durum, sonuç ve süre bilgileri
+public class AnalysisJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final String repository;
+    private final Instant createdAt = Instant.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile RepositoryAnalysis analysis;
+    private volatile String cacheInfo;
+    private volatile boolean stale;
+    private volatile String errorMessage;
+
+    // İş bittiğinde tamamlanır - SSE aboneleri için
+    private final CompletableFuture<AnalysisJob> completion = new CompletableFuture<>();
+
+    public AnalysisJob(String id, String repository) {
+        this.id = id;
+        this.repository = repository;
+    }
+
+    public void markRunning() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    public void markDone(RepositoryAnalysis analysis, String cacheInfo, boolean stale) {
+        this.analysis = analysis;
+        this.cacheInfo = cacheInfo;
+        this.stale = stale;
+        finishedAt = Instant.now();
+        status = Status.DONE;
+        completion.complete(this);
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+        completion.complete(this);
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    // Kuyrukta bekleme süresi (ms)
+    public Long getQueueMillis() {
+        Instant start = startedAt;
+        return start != null ? start.toEpochMilli() - createdAt.toEpochMilli() : null;
+    }
+
+    // Çalışma süresi (ms)
+    public Long getRunMillis() {
+        Instant start = startedAt;
+        Instant end = finishedAt;
+        return start != null && end != null ? end.toEpochMilli() - start.toEpochMilli() : null;
+    }
+
+    public RepositoryAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    public String getCacheInfo() {
+        return cacheInfo;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonIgnore
+    public CompletableFuture<AnalysisJob> getCompletion() {
+        return completion;
+    }
+}
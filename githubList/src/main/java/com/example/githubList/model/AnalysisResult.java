@@ -0,0 +1,48 @@
+package com.example.githubList.model;
+
+// Analiz akışının sonucu: repo bilgisi, analiz ve sonucun nereden geldiği
+public class AnalysisResult {
+    private final GitHubRepository repository;
+    private final RepositoryAnalysis analysis;
+    private final String cacheInfo;
+    private final boolean fromCache;
+    // Soft TTL'i geçmiş cache kaydı; yenisi arka planda hazırlanıyor
+    private final boolean stale;
+
+    public AnalysisResult(GitHubRepository repository, RepositoryAnalysis analysis, String cacheInfo, boolean fromCache) {
+        this(repository, analysis, cacheInfo, fromCache, false);
+    }
+
+    public AnalysisResult(GitHubRepository repository, RepositoryAnalysis analysis, String cacheInfo, boolean fromCache, boolean stale) {
+        this.repository = repository;
+        this.analysis = analysis;
+        this.cacheInfo = cacheInfo;
+        this.fromCache = fromCache;
+        this.stale = stale;
+    }
+
+    public GitHubRepository getRepository() {
+        return repository;
+    }
+
+    public RepositoryAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    public String getCacheInfo() {
+        return cacheInfo;
+    }
+
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    // Aynı sonucu farklı bir kaynak bilgisiyle döndür
+    public AnalysisResult withCacheInfo(String cacheInfo) {
+        return new AnalysisResult(repository, analysis, cacheInfo, fromCache, stale);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.githubList.model;
+
+// GitHub yanıtı ve doğrulayıcıları (ETag / Last-Modified), koşullu istekler için saklanır
+public class CachedResponse {
+    private String etag;
+    private String lastModified;
+    private String body;
+
+    public CachedResponse() {}
+
+    public CachedResponse(String etag, String lastModified, String body) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.body = body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
@@ -18,6 +18,22 @@ public class GitHubRepository {
     // Constructor
     public GitHubRepository() {}
 
+    // Yüzeysel kopya - cache'teki nesnenin çağıranlarca değiştirilmesini önler
+    public GitHubRepository copy() {
+        GitHubRepository copy = new GitHubRepository();
+        copy.id = id;
+        copy.name = name;
+        copy.fullName = fullName;
+        copy.description = description;
+        copy.language = language;
+        copy.stargazersCount = stargazersCount;
+        copy.forksCount = forksCount;
+        copy.updatedAt = updatedAt;
+        copy.htmlUrl = htmlUrl;
+        copy.readmeContent = readmeContent;
+        return copy;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -23,10 +23,51 @@ public class RepositoryAnalysis {
     private String usedTechnologies; // Kullanılan teknolojiler
     private String targetAudience; // Hedef kitle
 
+    // Markdown bölümlerinin HTML hali - bir kez render edilip saklanır
+    private String generalRecommendationHtml;
+    private String improvementRecommendationsHtml;
+    private String usedTechnologiesHtml;
+    private String targetAudienceHtml;
+
+    // Analizin cache'e yazıldığı an (epoch ms); soft TTL kontrolü bununla yapılır
+    private Long cachedAt;
+
+    // commonmark Parser ve HtmlRenderer immutable ve thread-safe, tüm analizler paylaşır
+    private static final Parser MARKDOWN_PARSER = Parser.builder().build();
+    private static final HtmlRenderer HTML_RENDERER = HtmlRenderer.builder().build();
+
     public RepositoryAnalysis() {
         // Varsayılan değer yok - sadece Groq AI'dan gelen değerler kullanılacak
     }
 
+    // Yüzeysel kopya - L1 cache'teki nesnenin çağıranlarca değiştirilmesini önler
+    public RepositoryAnalysis copy() {
+        RepositoryAnalysis copy = new RepositoryAnalysis();
+        copy.repositoryName = repositoryName;
+        copy.repositoryUrl = repositoryUrl;
+        copy.technologyQuality = technologyQuality;
+        copy.learningValue = learningValue;
+        copy.careerGrowth = careerGrowth;
+        copy.communityActivity = communityActivity;
+        copy.recency = recency;
+        copy.generalRecommendation = generalRecommendation;
+        copy.projectSummary = projectSummary;
+        copy.technologyQualityDescription = technologyQualityDescription;
+        copy.learningValueDescription = learningValueDescription;
+        copy.careerGrowthDescription = careerGrowthDescription;
+        copy.communityActivityDescription = communityActivityDescription;
+        copy.recencyDescription = recencyDescription;
+        copy.improvementRecommendations = improvementRecommendations;
+        copy.usedTechnologies = usedTechnologies;
+        copy.targetAudience = targetAudience;
+        copy.generalRecommendationHtml = generalRecommendationHtml;
+        copy.improvementRecommendationsHtml = improvementRecommendationsHtml;
+        copy.usedTechnologiesHtml = usedTechnologiesHtml;
+        copy.targetAudienceHtml = targetAudienceHtml;
+        copy.cachedAt = cachedAt;
+        return copy;
+    }
+
     // Getter ve Setter metodları
     public String getRepositoryName() {
         return repositoryName;
@@ -90,6 +131,7 @@ public class RepositoryAnalysis {
 
     public void setGeneralRecommendation(String generalRecommendation) {
         this.generalRecommendation = generalRecommendation;
+        this.generalRecommendationHtml = null;
     }
 
     public String getProjectSummary() {
@@ -146,6 +188,7 @@ public class RepositoryAnalysis {
 
     public void setImprovementRecommendations(String improvementRecommendations) {
         this.improvementRecommendations = improvementRecommendations;
+        this.improvementRecommendationsHtml = null;
     }
 
     public String getUsedTechnologies() {
@@ -154,6 +197,7 @@ public class RepositoryAnalysis {
 
     public void setUsedTechnologies(String usedTechnologies) {
         this.usedTechnologies = usedTechnologies;
+        this.usedTechnologiesHtml = null;
     }
 
     public String getTargetAudience() {
@@ -162,6 +206,15 @@ public class RepositoryAnalysis {
 
     public void setTargetAudience(String targetAudience) {
         this.targetAudience = targetAudience;
+        this.targetAudienceHtml = null;
+    }
+
+    public Long getCachedAt() {
+        return cachedAt;
+    }
+
+    public void setCachedAt(Long cachedAt) {
+        this.cachedAt = cachedAt;
     }
 
     // Ortalama puan hesaplama
@@ -200,34 +253,68 @@ public class RepositoryAnalysis {
     }
 
     // Markdown'ı HTML'e çeviren yardımcı metod
-    private String markdownToHtml(String markdown) {
+    private static String markdownToHtml(String markdown) {
         if (markdown == null || markdown.trim().isEmpty()) {
             return "";
         }
         
-        Parser parser = Parser.builder().build();
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
-        Node document = parser.parse(markdown);
-        return renderer.render(document);
+        Node document = MARKDOWN_PARSER.parse(markdown);
+        return HTML_RENDERER.render(document);
+    }
+
+    // Tüm markdown bölümlerini bir kez HTML'e çevir (analiz oluşturulurken / çözümlenirken)
+    public void renderHtml() {
+        generalRecommendationHtml = markdownToHtml(generalRecommendation);
+        improvementRecommendationsHtml = markdownToHtml(improvementRecommendations);
+        usedTechnologiesHtml = markdownToHtml(usedTechnologies);
+        targetAudienceHtml = markdownToHtml(targetAudience);
     }
 
     // İyileştirme önerilerini HTML formatında döndür
     public String getImprovementRecommendationsHtml() {
-        return markdownToHtml(improvementRecommendations);
+        if (improvementRecommendationsHtml == null) {
+            improvementRecommendationsHtml = markdownToHtml(improvementRecommendations);
+        }
+        return improvementRecommendationsHtml;
+    }
+
+    public void setImprovementRecommendationsHtml(String improvementRecommendationsHtml) {
+        this.improvementRecommendationsHtml = improvementRecommendationsHtml;
     }
 
     // Kullanılan teknolojileri HTML formatında döndür
     public String getUsedTechnologiesHtml() {
-        return markdownToHtml(usedTechnologies);
+        if (usedTechnologiesHtml == null) {
+            usedTechnologiesHtml = markdownToHtml(usedTechnologies);
+        }
+        return usedTechnologiesHtml;
+    }
+
+    public void setUsedTechnologiesHtml(String usedTechnologiesHtml) {
+        this.usedTechnologiesHtml = usedTechnologiesHtml;
     }
 
     // Hedef kitleyi HTML formatında döndür
     public String getTargetAudienceHtml() {
-        return markdownToHtml(targetAudience);
+        if (targetAudienceHtml == null) {
+            targetAudienceHtml = markdownToHtml(targetAudience);
+        }
+        return targetAudienceHtml;
+    }
+
+    public void setTargetAudienceHtml(String targetAudienceHtml) {
+        this.targetAudienceHtml = targetAudienceHtml;
     }
 
     // Genel öneriyi HTML formatında döndür
     public String getGeneralRecommendationHtml() {
-        return markdownToHtml(generalRecommendation);
+        if (generalRecommendationHtml == null) {
+            generalRecommendationHtml = markdownToHtml(generalRecommendation);
+        }
+        return generalRecommendationHtml;
+    }
+
+    public void setGeneralRecommendationHtml(String generalRecommendationHtml) {
+        this.generalRecommendationHtml = generalRecommendationHtml;
     }
 }
@@ -0,0 +1,17 @@
+package com.example.githubList.repository;
+
+import com.example.githubList.entity.AnalysisRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AnalysisRecordRepository extends JpaRepository<AnalysisRecord, Long> {
+
+    Optional<AnalysisRecord> findByRepoId(String repoId);
+
+    List<AnalysisRecord> findByRepoIdIn(Collection<String> repoIds);
+
+    long deleteByRepoId(String repoId);
+}
@@ -0,0 +1,15 @@
+package com.example.githubList.repository;
+
+import com.example.githubList.entity.RepositoryRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RepositoryRecordRepository extends JpaRepository<RepositoryRecord, Long> {
+
+    Optional<RepositoryRecord> findByRepoId(String repoId);
+
+    List<RepositoryRecord> findByRepoIdIn(Collection<String> repoIds);
+}
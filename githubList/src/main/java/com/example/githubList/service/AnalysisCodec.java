@@ -0,0 +1,184 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Analizlerin Redis hash formatı: her alan ayrı bir hash field'ı, "v" şema versiyonu.
+// Çok satırlı metinler olduğu gibi saklanır, puanlar HMGET ile tek başına okunabilir.
+public final class AnalysisCodec {
+
+    public static final int SCHEMA_VERSION = 2;
+
+    public static final String VERSION = "v";
+    public static final String TECH = "tech";
+    public static final String LEARN = "learn";
+    public static final String CAREER = "career";
+    public static final String COMMUNITY = "community";
+    public static final String RECENCY = "recency";
+    public static final String REPO = "repo";
+    public static final String URL = "url";
+    public static final String RECOMMENDATION = "recommendation";
+    public static final String PROJECT_SUMMARY = "projectSummary";
+    public static final String TECH_DESC = "techDesc";
+    public static final String LEARN_DESC = "learnDesc";
+    public static final String CAREER_DESC = "careerDesc";
+    public static final String COMMUNITY_DESC = "communityDesc";
+    public static final String RECENCY_DESC = "recencyDesc";
+    public static final String IMPROVEMENTS = "improvements";
+    public static final String TECHNOLOGIES = "technologies";
+    public static final String TARGET_AUDIENCE = "targetAudience";
+    // Önceden render edilmiş HTML (opsiyonel - yoksa okurken render edilir)
+    public static final String RECOMMENDATION_HTML = "recommendationHtml";
+    public static final String IMPROVEMENTS_HTML = "improvementsHtml";
+    public static final String TECHNOLOGIES_HTML = "technologiesHtml";
+    public static final String TARGET_AUDIENCE_HTML = "targetAudienceHtml";
+    // İçerik adresli kayıtlarda analizin üretildiği girdinin parmak izi (bkz. AnalysisFingerprint)
+    public static final String FINGERPRINT = "fp";
+    // Cache'e yazılma zamanı (epoch ms) - eski kayıtlarda yok
+    public static final String CACHED_AT = "at";
+
+    // HMGET sırası: sadece puan gereken okumalar için
+    public static final List<Object> SCORE_FIELDS = Arrays.asList(VERSION, TECH, LEARN, CAREER, COMMUNITY, RECENCY, CACHED_AT);
+
+    private AnalysisCodec() {}
+
+    public static Map<String, Object> encode(RepositoryAnalysis analysis) {
+        if (analysis == null) {
+            throw new RuntimeException("Analysis null olduğu için serialize edilemiyor");
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put(VERSION, SCHEMA_VERSION);
+        fields.put(TECH, analysis.getTechnologyQuality());
+        fields.put(LEARN, analysis.getLearningValue());
+        fields.put(CAREER, analysis.getCareerGrowth());
+        fields.put(COMMUNITY, analysis.getCommunityActivity());
+        fields.put(RECENCY, analysis.getRecency());
+        if (analysis.getCachedAt() != null) {
+            fields.put(CACHED_AT, analysis.getCachedAt());
+        }
+        putText(fields, REPO, analysis.getRepositoryName());
+        putText(fields, URL, analysis.getRepositoryUrl());
+        putText(fields, RECOMMENDATION, analysis.getGeneralRecommendation());
+        putText(fields, PROJECT_SUMMARY, analysis.getProjectSummary());
+        putText(fields, TECH_DESC, analysis.getTechnologyQualityDescription());
+        putText(fields, LEARN_DESC, analysis.getLearningValueDescription());
+        putText(fields, CAREER_DESC, analysis.getCareerGrowthDescription());
+        putText(fields, COMMUNITY_DESC, analysis.getCommunityActivityDescription());
+        putText(fields, RECENCY_DESC, analysis.getRecencyDescription());
+        putText(fields, IMPROVEMENTS, analysis.getImprovementRecommendations());
+        putText(fields, TECHNOLOGIES, analysis.getUsedTechnologies());
+        putText(fields, TARGET_AUDIENCE, analysis.getTargetAudience());
+        putText(fields, RECOMMENDATION_HTML, analysis.getGeneralRecommendationHtml());
+        putText(fields, IMPROVEMENTS_HTML, analysis.getImprovementRecommendationsHtml());
+        putText(fields, TECHNOLOGIES_HTML, analysis.getUsedTechnologiesHtml());
+        putText(fields, TARGET_AUDIENCE_HTML, analysis.getTargetAudienceHtml());
+        return fields;
+    }
+
+    public static RepositoryAnalysis decode(Map<Object, Object> fields) {
+        int version = toInt(fields.get(VERSION));
+        if (version != SCHEMA_VERSION) {
+            throw new RuntimeException("Desteklenmeyen analiz şema versiyonu: " + version);
+        }
+        RepositoryAnalysis analysis = decodeScores(fields);
+        analysis.setRepositoryName(text(fields, REPO));
+        analysis.setRepositoryUrl(text(fields, URL));
+        analysis.setGeneralRecommendation(text(fields, RECOMMENDATION));
+        analysis.setProjectSummary(text(fields, PROJECT_SUMMARY));
+        analysis.setTechnologyQualityDescription(text(fields, TECH_DESC));
+        analysis.setLearningValueDescription(text(fields, LEARN_DESC));
+        analysis.setCareerGrowthDescription(text(fields, CAREER_DESC));
+        analysis.setCommunityActivityDescription(text(fields, COMMUNITY_DESC));
+        analysis.setRecencyDescription(text(fields, RECENCY_DESC));
+        analysis.setImprovementRecommendations(text(fields, IMPROVEMENTS));
+        analysis.setUsedTechnologies(text(fields, TECHNOLOGIES));
+        analysis.setTargetAudience(text(fields, TARGET_AUDIENCE));
+
+        // Saklanan HTML tekrar render edilmez; saklanmayan alanlar (boş markdown) getter'da lazy render edilir
+        analysis.setGeneralRecommendationHtml(text(fields, RECOMMENDATION_HTML));
+        analysis.setImprovementRecommendationsHtml(text(fields, IMPROVEMENTS_HTML));
+        analysis.setUsedTechnologiesHtml(text(fields, TECHNOLOGIES_HTML));
+        analysis.setTargetAudienceHtml(text(fields, TARGET_AUDIENCE_HTML));
+        return analysis;
+    }
+
+    // HMGET sonucu (SCORE_FIELDS sırasıyla) - sadece puanlar dolu bir analiz döner, eksikse null
+    public static RepositoryAnalysis decodeScores(List<Object> values) {
+        if (values == null || values.size() != SCORE_FIELDS.size() || values.get(0) == null) {
+            return null;
+        }
+        Map<Object, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < SCORE_FIELDS.size(); i++) {
+            fields.put(SCORE_FIELDS.get(i), values.get(i));
+        }
+        return toInt(fields.get(VERSION)) == SCHEMA_VERSION ? decodeScores(fields) : null;
+    }
+
+    private static RepositoryAnalysis decodeScores(Map<Object, Object> fields) {
+        RepositoryAnalysis analysis = new RepositoryAnalysis();
+        analysis.setTechnologyQuality(toInt(fields.get(TECH)));
+        analysis.setLearningValue(toInt(fields.get(LEARN)));
+        analysis.setCareerGrowth(toInt(fields.get(CAREER)));
+        analysis.setCommunityActivity(toInt(fields.get(COMMUNITY)));
+        analysis.setRecency(toInt(fields.get(RECENCY)));
+        Object cachedAt = fields.get(CACHED_AT);
+        analysis.setCachedAt(cachedAt != null ? Long.valueOf(cachedAt.toString()) : null);
+        return analysis;
+    }
+
+    // Eski "KEY:value" satır formatı - sadece lazy migration için okunur
+    public static RepositoryAnalysis decodeLegacy(String cachedText) {
+        RepositoryAnalysis analysis = new RepositoryAnalysis();
+        
+        try {
+            String[] lines = cachedText.split("\n");
+            for (String line : lines) {
+                if (line.startsWith("TECH:")) analysis.setTechnologyQuality(Integer.parseInt(line.substring(5)));
+                else if (line.startsWith("LEARN:")) analysis.setLearningValue(Integer.parseInt(line.substring(6)));
+                else if (line.startsWith("CAREER:")) analysis.setCareerGrowth(Integer.parseInt(line.substring(7)));
+                else if (line.startsWith("COMMUNITY:")) analysis.setCommunityActivity(Integer.parseInt(line.substring(10)));
+                else if (line.startsWith("RECENCY:")) analysis.setRecency(Integer.parseInt(line.substring(8)));
+                else if (line.startsWith("RECOMMENDATION:")) analysis.setGeneralRecommendation(line.substring(15));
+                else if (line.startsWith("REPO:")) analysis.setRepositoryName(line.substring(5));
+                else if (line.startsWith("URL:")) analysis.setRepositoryUrl(line.substring(4));
+                else if (line.startsWith("PROJECT_SUMMARY:")) analysis.setProjectSummary(line.substring(16));
+                else if (line.startsWith("TECH_DESC:")) analysis.setTechnologyQualityDescription(line.substring(10));
+                else if (line.startsWith("LEARN_DESC:")) analysis.setLearningValueDescription(line.substring(11));
+                else if (line.startsWith("CAREER_DESC:")) analysis.setCareerGrowthDescription(line.substring(12));
+                else if (line.startsWith("COMMUNITY_DESC:")) analysis.setCommunityActivityDescription(line.substring(15));
+                else if (line.startsWith("RECENCY_DESC:")) analysis.setRecencyDescription(line.substring(13));
+                else if (line.startsWith("IMPROVEMENTS:")) analysis.setImprovementRecommendations(line.substring(13));
+                else if (line.startsWith("TECHNOLOGIES:")) analysis.setUsedTechnologies(line.substring(13));
+                else if (line.startsWith("TARGET_AUDIENCE:")) analysis.setTargetAudience(line.substring(16));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Cache parse hatası: " + e.getMessage());
+        }
+        
+        analysis.renderHtml();
+        return analysis;
+    }
+
+    // Boş alanlar hash'e yazılmaz
+    private static void putText(Map<String, Object> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private static String text(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static int toInt(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+}
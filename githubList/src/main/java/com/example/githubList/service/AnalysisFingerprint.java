@@ -0,0 +1,63 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+// Analizin girdisini özetleyen parmak izi: README blob SHA'sı, yıldız/fork kovaları,
+// güncellik bandı, açıklama/dil ve prompt versiyonu. Parmak izi aynıysa analiz tekrar kullanılır.
+public final class AnalysisFingerprint {
+
+    private AnalysisFingerprint() {}
+
+    public static String of(GitHubRepository repository, int promptVersion) {
+        String input = String.join("|",
+            "p" + promptVersion,
+            readmeSha(repository.getReadmeContent()),
+            "s" + bucket(repository.getStargazersCount()),
+            "f" + bucket(repository.getForksCount()),
+            "r" + recencyBand(repository.getUpdatedAt()),
+            String.valueOf(repository.getLanguage()),
+            String.valueOf(repository.getDescription()));
+        return hex("SHA-256", input.getBytes(StandardCharsets.UTF_8)).substring(0, 32);
+    }
+
+    // GitHub'ın README için verdiği sha ile aynı: git blob nesnesinin SHA-1'i
+    static String readmeSha(String readmeContent) {
+        if (readmeContent == null || readmeContent.isEmpty()) {
+            return "none";
+        }
+        byte[] content = readmeContent.getBytes(StandardCharsets.UTF_8);
+        byte[] header = ("blob " + content.length + "\0").getBytes(StandardCharsets.US_ASCII);
+        byte[] blob = new byte[header.length + content.length];
+        System.arraycopy(header, 0, blob, 0, header.length);
+        System.arraycopy(content, 0, blob, header.length, content.length);
+        return hex("SHA-1", blob);
+    }
+
+    // Logaritmik kova: 0, 1, 2-3, 4-7, 8-15, ... küçük değişimler analizi geçersiz kılmaz
+    static int bucket(Integer count) {
+        int value = count == null ? 0 : Math.max(0, count);
+        return 32 - Integer.numberOfLeadingZeros(value);
+    }
+
+    // Prompt'taki güncellik puanlama bantları (bkz. RepositoryStatsScorer): 1-7, 8-30, 31-90, 90+ gün
+    static int recencyBand(LocalDateTime pushedAt) {
+        if (pushedAt == null) {
+            return -1;
+        }
+        return RepositoryStatsScorer.recencyBand(Math.max(0, Duration.between(pushedAt, LocalDateTime.now()).toDays()));
+    }
+
+    private static String hex(String algorithm, byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(algorithm).digest(data));
+        } catch (Exception e) {
+            throw new IllegalStateException(algorithm + " kullanılamıyor", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.AnalysisJob;
+import com.example.githubList.model.AnalysisResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class AnalysisJobService {
+
+    private final RepositoryAnalysisService analysisService;
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+
+    // Biten işler bir süre sorgulanabilir kalır
+    private final Cache<String, AnalysisJob> jobs;
+
+    // Aynı repo için bekleyen / çalışan iş varsa yeni iş açılmaz
+    private final ConcurrentHashMap<String, AnalysisJob> activeJobsByRepo = new ConcurrentHashMap<>();
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalQueueMillis = new AtomicLong();
+    private final AtomicLong totalRunMillis = new AtomicLong();
+    private final AtomicLong finishedCount = new AtomicLong();
+
+    @Autowired
+    public AnalysisJobService(RepositoryAnalysisService analysisService,
+                              ThreadPoolTaskExecutor analysisJobExecutor,
+                              @Value("${app.jobs.retention:3600}") long retentionSeconds) {
+        this.analysisService = analysisService;
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(retentionSeconds))
+            .maximumSize(10_000)
+            .build();
+    }
+
+    // Kuyruk doluysa TaskRejectedException fırlatır
+    public AnalysisJob submit(String owner, String repo) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        AnalysisJob newJob = new AnalysisJob(UUID.randomUUID().toString(), owner + "/" + repo);
+
+        AnalysisJob existing = activeJobsByRepo.putIfAbsent(repoId, newJob);
+        if (existing != null) {
+            deduplicatedCount.incrementAndGet();
+            return existing;
+        }
+
+        jobs.put(newJob.getId(), newJob);
+        try {
+            analysisJobExecutor.execute(() -> run(newJob, owner, repo, repoId));
+            submittedCount.incrementAndGet();
+            return newJob;
+        } catch (TaskRejectedException e) {
+            rejectedCount.incrementAndGet();
+            activeJobsByRepo.remove(repoId, newJob);
+            jobs.invalidate(newJob.getId());
+            throw e;
+        }
+    }
+
+    public Optional<AnalysisJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void run(AnalysisJob job, String owner, String repo, String repoId) {
+        job.markRunning();
+        try {
+            AnalysisResult result = analysisService.analyze(owner, repo);
+            if (result.getRepository() == null) {
+                job.markFailed("Repository bulunamadı: " + owner + "/" + repo);
+            } else if (result.getAnalysis() == null) {
+                job.markFailed("Repository analizi başarısız oldu. Lütfen tekrar deneyin.");
+            } else {
+                job.markDone(result.getAnalysis(), result.getCacheInfo(), result.isStale());
+            }
+        } catch (Exception e) {
+            System.err.println("Analiz işi hatası " + job.getId() + ": " + e.getMessage());
+            job.markFailed("Analiz sırasında hata oluştu: " + e.getMessage());
+        } finally {
+            activeJobsByRepo.remove(repoId, job);
+            finishedCount.incrementAndGet();
+            totalQueueMillis.addAndGet(job.getQueueMillis() != null ? job.getQueueMillis() : 0);
+            totalRunMillis.addAndGet(job.getRunMillis() != null ? job.getRunMillis() : 0);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long finished = Math.max(1, finishedCount.get());
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("submitted", submittedCount.get());
+        stats.put("deduplicated", deduplicatedCount.get());
+        stats.put("rejected", rejectedCount.get());
+        stats.put("queueDepth", analysisJobExecutor.getThreadPoolExecutor().getQueue().size());
+        stats.put("running", analysisJobExecutor.getActiveCount());
+        stats.put("finished", finishedCount.get());
+        stats.put("avgQueueMs", totalQueueMillis.get() / finished);
+        stats.put("avgRunMs", totalRunMillis.get() / finished);
+        return stats;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Groq'un JSON (response_format) yanıtını Jackson streaming ile doğrudan RepositoryAnalysis'e çevirir.
+// Alan adları RepositoryAnalysis ile aynıdır; bilinmeyen alanlar atlanır, beş puanın hepsi zorunludur.
+public final class AnalysisJsonDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("(\\d+)");
+
+    // Prompt'ta modele verilen şema (alan adları decode ile birebir aynı)
+    public static final String SCHEMA_DESCRIPTION = "{\n"
+        + "  \"generalRecommendation\": string (markdown, en az 3 paragraf),\n"
+        + "  \"projectSummary\": string,\n"
+        + "  \"technologyQuality\": integer 0-100,\n"
+        + "  \"technologyQualityDescription\": string,\n"
+        + "  \"learningValue\": integer 0-100,\n"
+        + "  \"learningValueDescription\": string,\n"
+        + "  \"careerGrowth\": integer 0-100,\n"
+        + "  \"careerGrowthDescription\": string,\n"
+        + "  \"communityActivity\": integer 0-100,\n"
+        + "  \"communityActivityDescription\": string,\n"
+        + "  \"recency\": integer 0-100,\n"
+        + "  \"recencyDescription\": string,\n"
+        + "  \"improvementRecommendations\": string (markdown, kategori başlıkları ve maddeler),\n"
+        + "  \"usedTechnologies\": string (markdown liste),\n"
+        + "  \"targetAudience\": string (markdown)\n"
+        + "}";
+
+    private static final int SCORE_COUNT = 5;
+    private static final int ALL_SCORES = (1 << SCORE_COUNT) - 1;
+
+    private AnalysisJsonDecoder() {}
+
+    public static RepositoryAnalysis decode(String json) {
+        RepositoryAnalysis analysis = new RepositoryAnalysis();
+        // Her puan alanı ayrı bit: aynı alan tekrarlanırsa iki kez sayılmaz
+        int scoresFound = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON nesnesi bekleniyordu");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "technologyQuality": analysis.setTechnologyQuality(readScore(parser)); scoresFound |= 1; break;
+                    case "learningValue": analysis.setLearningValue(readScore(parser)); scoresFound |= 2; break;
+                    case "careerGrowth": analysis.setCareerGrowth(readScore(parser)); scoresFound |= 4; break;
+                    case "communityActivity": analysis.setCommunityActivity(readScore(parser)); scoresFound |= 8; break;
+                    case "recency": analysis.setRecency(readScore(parser)); scoresFound |= 16; break;
+                    case "generalRecommendation": analysis.setGeneralRecommendation(readText(parser)); break;
+                    case "projectSummary": analysis.setProjectSummary(readText(parser)); break;
+                    case "technologyQualityDescription": analysis.setTechnologyQualityDescription(readText(parser)); break;
+                    case "learningValueDescription": analysis.setLearningValueDescription(readText(parser)); break;
+                    case "careerGrowthDescription": analysis.setCareerGrowthDescription(readText(parser)); break;
+                    case "communityActivityDescription": analysis.setCommunityActivityDescription(readText(parser)); break;
+                    case "recencyDescription": analysis.setRecencyDescription(readText(parser)); break;
+                    case "improvementRecommendations": analysis.setImprovementRecommendations(readText(parser)); break;
+                    case "usedTechnologies": analysis.setUsedTechnologies(readText(parser)); break;
+                    case "targetAudience": analysis.setTargetAudience(readText(parser)); break;
+                    default: parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Geçersiz analiz JSON'u: " + e.getMessage(), e);
+        }
+
+        if (scoresFound != ALL_SCORES) {
+            throw new IllegalArgumentException("Analiz JSON'unda puanlar eksik: " + Integer.bitCount(scoresFound) + "/" + SCORE_COUNT);
+        }
+        return analysis;
+    }
+
+    // Sayı veya "85/100" gibi metin
+    private static int readScore(JsonParser parser) throws IOException {
+        int score;
+        if (parser.currentToken().isNumeric()) {
+            score = parser.getValueAsInt();
+        } else if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            Matcher matcher = NUMBER_PATTERN.matcher(parser.getText());
+            if (!matcher.find()) {
+                throw new IllegalArgumentException("Geçerli puan bulunamadı: " + parser.getText());
+            }
+            score = Integer.parseInt(matcher.group(1));
+        } else {
+            throw new IllegalArgumentException("Geçerli puan bulunamadı: " + parser.currentToken());
+        }
+        return Math.min(100, Math.max(0, score));
+    }
+
+    // Metin alanı; model dizi döndürürse markdown liste olarak birleştirilir
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            StringBuilder list = new StringBuilder();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken().isScalarValue()) {
+                    list.append("- ").append(parser.getText()).append('\n');
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return list.length() == 0 ? null : list.toString().trim();
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = parser.getText().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
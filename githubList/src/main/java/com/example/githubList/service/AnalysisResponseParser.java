@@ -0,0 +1,189 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Groq markdown yanıtını tek geçişte, satır satır parse eder.
+// Yanıt parça parça (stream) gelebilir: accept() ile beslenir, finish() ile analiz alınır.
+// Bir örnek tek bir yanıt içindir ve thread-safe değildir.
+public class AnalysisResponseParser {
+
+    // "**85/100**" veya "85/100", yoksa tek başına bir sayı
+    private static final Pattern SCORE_PATTERN = Pattern.compile("\\*\\*(\\d+)/100\\*\\*|(\\d+)/100");
+    private static final Pattern PLAIN_NUMBER_PATTERN = Pattern.compile("(?:^|\\s)(\\d+)(?=\\s|$)");
+
+    private enum Section {
+        NONE, GENERAL_RECOMMENDATION, PROJECT_SUMMARY, SCORES, IMPROVEMENTS, TECHNOLOGIES, TARGET_AUDIENCE
+    }
+
+    private final RepositoryAnalysis analysis = new RepositoryAnalysis();
+    private final StringBuilder pending = new StringBuilder();
+
+    private final StringBuilder generalRecommendation = new StringBuilder();
+    private final StringBuilder projectSummary = new StringBuilder();
+    private final StringBuilder improvements = new StringBuilder();
+    private final StringBuilder technologies = new StringBuilder();
+    private final StringBuilder targetAudience = new StringBuilder();
+
+    private Section section = Section.NONE;
+    private boolean inTable;
+    private int scoresFound;
+    private RuntimeException scoreError;
+
+    public static RepositoryAnalysis parse(String response) {
+        AnalysisResponseParser parser = new AnalysisResponseParser();
+        parser.accept(response);
+        return parser.finish();
+    }
+
+    // Yeni gelen metni ekle; tamamlanan satırlar hemen işlenir
+    public void accept(CharSequence chunk) {
+        int lineStart = 0;
+        for (int i = 0; i < chunk.length(); i++) {
+            if (chunk.charAt(i) == '\n') {
+                pending.append(chunk, lineStart, i);
+                processLine(pending.toString());
+                pending.setLength(0);
+                lineStart = i + 1;
+            }
+        }
+        pending.append(chunk, lineStart, chunk.length());
+    }
+
+    public RepositoryAnalysis finish() {
+        if (pending.length() > 0) {
+            processLine(pending.toString());
+            pending.setLength(0);
+        }
+        if (scoreError != null) {
+            throw new RuntimeException("AI analizi başarısız oldu: " + scoreError.getMessage());
+        }
+
+        analysis.setGeneralRecommendation(textOrNull(generalRecommendation));
+        analysis.setProjectSummary(textOrNull(projectSummary));
+        analysis.setImprovementRecommendations(textOrNull(improvements));
+        analysis.setUsedTechnologies(textOrNull(technologies));
+        analysis.setTargetAudience(textOrNull(targetAudience));
+        return analysis;
+    }
+
+    // Stream sırasında şu ana kadar okunan puanlar
+    public RepositoryAnalysis getPartialAnalysis() {
+        return analysis;
+    }
+
+    public int getScoresFound() {
+        return scoresFound;
+    }
+
+    private void processLine(String rawLine) {
+        String line = rawLine.trim();
+
+        if (line.startsWith("## ")) {
+            section = sectionOf(line);
+            inTable = false;
+            return;
+        }
+
+        // Puanlama tablosu yanıtın herhangi bir yerinde olabilir
+        if (line.startsWith("| Kategori |")) {
+            inTable = true;
+            return;
+        }
+        if (inTable) {
+            if (line.startsWith("|")) {
+                parseTableRow(line);
+                return;
+            }
+            inTable = false;
+        }
+
+        StringBuilder target = bufferOf(section);
+        if (target != null) {
+            target.append(rawLine).append('\n');
+        }
+    }
+
+    private Section sectionOf(String header) {
+        if (header.contains("Genel Öneri")) return Section.GENERAL_RECOMMENDATION;
+        if (header.contains("Proje Özeti")) return Section.PROJECT_SUMMARY;
+        if (header.contains("Puanlama Tablosu")) return Section.SCORES;
+        if (header.contains("İyileştirme Önerileri")) return Section.IMPROVEMENTS;
+        if (header.contains("Kullanılan Teknolojiler")) return Section.TECHNOLOGIES;
+        if (header.contains("Hedef Kitle")) return Section.TARGET_AUDIENCE;
+        return Section.NONE;
+    }
+
+    private StringBuilder bufferOf(Section current) {
+        switch (current) {
+            case GENERAL_RECOMMENDATION: return generalRecommendation;
+            case PROJECT_SUMMARY: return projectSummary;
+            case IMPROVEMENTS: return improvements;
+            case TECHNOLOGIES: return technologies;
+            case TARGET_AUDIENCE: return targetAudience;
+            default: return null;
+        }
+    }
+
+    private void parseTableRow(String line) {
+        String[] columns = line.split("\\|");
+        if (columns.length < 4) {
+            return;
+        }
+        String category = columns[1].trim();
+        String scoreCell = columns[2].trim();
+        String description = columns[3].trim();
+
+        try {
+            if (category.contains("Teknoloji Kalitesi")) {
+                analysis.setTechnologyQuality(extractScore(scoreCell));
+                analysis.setTechnologyQualityDescription(description);
+            } else if (category.contains("Öğrenme Değeri")) {
+                analysis.setLearningValue(extractScore(scoreCell));
+                analysis.setLearningValueDescription(description);
+            } else if (category.contains("Kariyer Gelişimi")) {
+                analysis.setCareerGrowth(extractScore(scoreCell));
+                analysis.setCareerGrowthDescription(description);
+            } else if (category.contains("Topluluk Aktifliği")) {
+                analysis.setCommunityActivity(extractScore(scoreCell));
+                analysis.setCommunityActivityDescription(description);
+            } else if (category.contains("Güncellik")) {
+                analysis.setRecency(extractScore(scoreCell));
+                analysis.setRecencyDescription(description);
+            } else {
+                return;
+            }
+            scoresFound++;
+        } catch (RuntimeException e) {
+            if (scoreError == null) {
+                scoreError = e;
+            }
+        }
+    }
+
+    private static int extractScore(String scoreCell) {
+        Matcher matcher = SCORE_PATTERN.matcher(scoreCell);
+        if (matcher.find()) {
+            String scoreStr = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            return clamp(Integer.parseInt(scoreStr));
+        }
+
+        // Alternatif: sadece sayı ara
+        Matcher plain = PLAIN_NUMBER_PATTERN.matcher(scoreCell);
+        if (plain.find()) {
+            return clamp(Integer.parseInt(plain.group(1)));
+        }
+        throw new RuntimeException("Geçerli puan bulunamadı: " + scoreCell);
+    }
+
+    private static int clamp(int score) {
+        return Math.min(100, Math.max(0, score));
+    }
+
+    private static String textOrNull(StringBuilder buffer) {
+        String text = buffer.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
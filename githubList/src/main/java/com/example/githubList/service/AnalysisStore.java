@@ -0,0 +1,365 @@
+package com.example.githubList.service;
+
+import com.example.githubList.entity.AnalysisRecord;
+import com.example.githubList.entity.RepositoryRecord;
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import com.example.githubList.repository.AnalysisRecordRepository;
+import com.example.githubList.repository.RepositoryRecordRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Redis'in altındaki kalıcı katman (PostgreSQL). Yazmalar write-behind: repo başına son yazma bekletilir,
+// periyodik olarak tek transaction'da toplu (JDBC batch) yazılır. Okumalar sadece Redis miss'te yapılır.
+// Veritabanı yoksa uygulama çalışmaya devam eder; bir hatadan sonra retry-after süresince DB'ye gidilmez.
+// Şema ilk başarılı bağlantıda idempotent script ile kurulur (bkz. db/analysis-store-schema.sql).
+@Service
+public class AnalysisStore {
+
+    @Autowired
+    private AnalysisRecordRepository analysisRecords;
+
+    @Autowired
+    private RepositoryRecordRepository repositoryRecords;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${app.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.store.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.store.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${app.store.retry-after:30}")
+    private long retryAfterSeconds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Aynı repo için bekleyen eski yazma yenisiyle değiştirilir
+    private final ConcurrentHashMap<String, PendingWrite> pending = new ConcurrentHashMap<>();
+    private volatile long unavailableUntilMillis;
+    private volatile boolean schemaReady;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong flushedRecords = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong readHits = new AtomicLong();
+
+    private static class PendingWrite {
+        final GitHubRepository repository;
+        final RepositoryAnalysis analysis;
+        final String fingerprint;
+
+        PendingWrite(GitHubRepository repository, RepositoryAnalysis analysis, String fingerprint) {
+            this.repository = repository;
+            this.analysis = analysis;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    // Kalıcı depodan okunan analiz ve üretildiği girdinin parmak izi
+    public record StoredAnalysis(RepositoryAnalysis analysis, String fingerprint) {}
+
+    // Sıralama yeniden kurulumu için: sadece puanlar ve repo metadata'sı
+    public record StoredScores(String repoId, GitHubRepository repository, RepositoryAnalysis scores) {}
+
+    public void save(String owner, String repo, GitHubRepository repository, RepositoryAnalysis analysis, String fingerprint) {
+        if (!enabled || analysis == null) {
+            return;
+        }
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        if (pending.size() >= maxPending && !pending.containsKey(repoId)) {
+            // DB uzun süredir yok: bellek sınırsız büyümesin, analiz Redis'te duruyor
+            dropped.incrementAndGet();
+            return;
+        }
+        GitHubRepository snapshot = repository != null ? repository.copy() : null;
+        if (snapshot != null) {
+            snapshot.setReadmeContent(null);
+        }
+        if (pending.put(repoId, new PendingWrite(snapshot, analysis, fingerprint)) != null) {
+            coalesced.incrementAndGet();
+        }
+        enqueued.incrementAndGet();
+    }
+
+    // Redis miss'te okunur; DB yoksa veya kayıt bozuksa boş döner
+    public Optional<StoredAnalysis> findAnalysis(String owner, String repo) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        PendingWrite waiting = pending.get(repoId);
+        if (waiting != null) {
+            return Optional.of(new StoredAnalysis(waiting.analysis, waiting.fingerprint));
+        }
+        if (!isAvailable()) {
+            return Optional.empty();
+        }
+        reads.incrementAndGet();
+        try {
+            Optional<AnalysisRecord> record = analysisRecords.findByRepoId(repoId);
+            if (record.isEmpty()) {
+                return Optional.empty();
+            }
+            readHits.incrementAndGet();
+            Map<Object, Object> fields = objectMapper.readValue(record.get().getPayload(), new TypeReference<Map<Object, Object>>() {});
+            RepositoryAnalysis analysis = AnalysisCodec.decode(fields);
+            analysis.setCachedAt(record.get().getCachedAt().toEpochMilli());
+            return Optional.of(new StoredAnalysis(analysis, record.get().getFingerprint()));
+        } catch (Exception e) {
+            markUnavailable(e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<GitHubRepository> findRepository(String owner, String repo) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        PendingWrite waiting = pending.get(repoId);
+        if (waiting != null && waiting.repository != null) {
+            return Optional.of(waiting.repository.copy());
+        }
+        if (!isAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            return repositoryRecords.findByRepoId(repoId).map(AnalysisStore::toRepository);
+        } catch (Exception e) {
+            markUnavailable(e);
+            return Optional.empty();
+        }
+    }
+
+    // Tüm kayıtların puanları, id sırasıyla sayfa sayfa; DB yoksa boş liste
+    public List<StoredScores> findScores(int page, int size) {
+        if (!isAvailable()) {
+            return List.of();
+        }
+        try {
+            List<AnalysisRecord> records = analysisRecords.findAll(PageRequest.of(page, size, Sort.by("id"))).getContent();
+            Map<String, RepositoryRecord> repositories = repositoryRecords.findByRepoIdIn(
+                    records.stream().map(AnalysisRecord::getRepoId).toList()).stream()
+                .collect(Collectors.toMap(RepositoryRecord::getRepoId, Function.identity()));
+
+            List<StoredScores> scores = new ArrayList<>();
+            for (AnalysisRecord record : records) {
+                RepositoryRecord repositoryRecord = repositories.get(record.getRepoId());
+                GitHubRepository repository = repositoryRecord != null ? toRepository(repositoryRecord) : new GitHubRepository();
+                if (repository.getFullName() == null) {
+                    repository.setFullName(record.getRepoId());
+                }
+                RepositoryAnalysis analysis = new RepositoryAnalysis();
+                analysis.setTechnologyQuality(record.getTechnologyQuality());
+                analysis.setLearningValue(record.getLearningValue());
+                analysis.setCareerGrowth(record.getCareerGrowth());
+                analysis.setCommunityActivity(record.getCommunityActivity());
+                analysis.setRecency(record.getRecency());
+                scores.add(new StoredScores(record.getRepoId(), repository, analysis));
+            }
+            return scores;
+        } catch (Exception e) {
+            markUnavailable(e);
+            return List.of();
+        }
+    }
+
+    // Kullanıcı yeniden analiz istediğinde kalıcı kopya da silinir (repo metadata'sı kalır)
+    public void deleteAnalysis(String owner, String repo) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        pending.remove(repoId);
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> analysisRecords.deleteByRepoId(repoId));
+        } catch (Exception e) {
+            markUnavailable(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.store.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty() || !isAvailable()) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            Map<String, PendingWrite> batch = drain();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                flushes.incrementAndGet();
+                flushedRecords.addAndGet(batch.size());
+            } catch (Exception e) {
+                // Bu sırada gelen daha yeni yazmalar ezilmesin
+                batch.forEach(pending::putIfAbsent);
+                flushFailures.incrementAndGet();
+                markUnavailable(e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<String, PendingWrite> drain() {
+        Map<String, PendingWrite> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, PendingWrite>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<String, PendingWrite> entry = iterator.next();
+            // remove(key, value): okunduktan sonra yenisi geldiyse o bir sonraki batch'e kalır
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    // Mevcut kayıtlar tek sorguda okunur, yeni ve güncellenen kayıtlar saveAll ile batch'lenir
+    private void write(Map<String, PendingWrite> batch) {
+        Instant now = Instant.now();
+        Map<String, AnalysisRecord> analyses = analysisRecords.findByRepoIdIn(batch.keySet()).stream()
+            .collect(Collectors.toMap(AnalysisRecord::getRepoId, Function.identity()));
+        Map<String, RepositoryRecord> repositories = repositoryRecords.findByRepoIdIn(batch.keySet()).stream()
+            .collect(Collectors.toMap(RepositoryRecord::getRepoId, Function.identity()));
+
+        List<AnalysisRecord> analysisUpdates = new ArrayList<>();
+        List<RepositoryRecord> repositoryUpdates = new ArrayList<>();
+        for (Map.Entry<String, PendingWrite> entry : batch.entrySet()) {
+            String repoId = entry.getKey();
+            PendingWrite write = entry.getValue();
+
+            AnalysisRecord record = analyses.computeIfAbsent(repoId, id -> new AnalysisRecord());
+            record.setRepoId(repoId);
+            fillAnalysis(record, write, now);
+            analysisUpdates.add(record);
+
+            if (write.repository != null) {
+                RepositoryRecord repository = repositories.computeIfAbsent(repoId, id -> new RepositoryRecord());
+                repository.setRepoId(repoId);
+                fillRepository(repository, write.repository, now);
+                repositoryUpdates.add(repository);
+            }
+        }
+        analysisRecords.saveAll(analysisUpdates);
+        repositoryRecords.saveAll(repositoryUpdates);
+    }
+
+    private void fillAnalysis(AnalysisRecord record, PendingWrite write, Instant now) {
+        RepositoryAnalysis analysis = write.analysis;
+        record.setFingerprint(write.fingerprint);
+        record.setPromptVersion(GroqAIService.PROMPT_VERSION);
+        record.setTechnologyQuality(analysis.getTechnologyQuality());
+        record.setLearningValue(analysis.getLearningValue());
+        record.setCareerGrowth(analysis.getCareerGrowth());
+        record.setCommunityActivity(analysis.getCommunityActivity());
+        record.setRecency(analysis.getRecency());
+        record.setAverageScore(analysis.getAverageScore());
+        try {
+            record.setPayload(objectMapper.writeValueAsString(AnalysisCodec.encode(analysis)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Analiz serialize edilemedi: " + e.getMessage(), e);
+        }
+        record.setCachedAt(analysis.getCachedAt() != null ? Instant.ofEpochMilli(analysis.getCachedAt()) : now);
+        record.setUpdatedAt(now);
+    }
+
+    private static void fillRepository(RepositoryRecord record, GitHubRepository repository, Instant now) {
+        record.setGithubId(repository.getId());
+        record.setFullName(repository.getFullName());
+        record.setDescription(repository.getDescription());
+        record.setLanguage(repository.getLanguage());
+        record.setStars(repository.getStargazersCount());
+        record.setForks(repository.getForksCount());
+        record.setPushedAt(repository.getUpdatedAt());
+        record.setHtmlUrl(repository.getHtmlUrl());
+        record.setFetchedAt(now);
+    }
+
+    private static GitHubRepository toRepository(RepositoryRecord record) {
+        GitHubRepository repository = new GitHubRepository();
+        repository.setId(record.getGithubId());
+        repository.setFullName(record.getFullName());
+        repository.setName(record.getFullName() != null && record.getFullName().contains("/")
+            ? record.getFullName().substring(record.getFullName().indexOf('/') + 1) : record.getFullName());
+        repository.setDescription(record.getDescription());
+        repository.setLanguage(record.getLanguage());
+        repository.setStargazersCount(record.getStars());
+        repository.setForksCount(record.getForks());
+        repository.setUpdatedAt(record.getPushedAt());
+        repository.setHtmlUrl(record.getHtmlUrl());
+        return repository;
+    }
+
+    private boolean isAvailable() {
+        return enabled && System.currentTimeMillis() >= unavailableUntilMillis && ensureSchema();
+    }
+
+    private synchronized boolean ensureSchema() {
+        if (schemaReady) {
+            return true;
+        }
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource("db/analysis-store-schema.sql")).execute(dataSource);
+            schemaReady = true;
+            System.out.println("Analiz deposu şeması hazır");
+            return true;
+        } catch (Exception e) {
+            markUnavailable(e);
+            return false;
+        }
+    }
+
+    private void markUnavailable(Exception e) {
+        unavailableUntilMillis = System.currentTimeMillis() + retryAfterSeconds * 1000;
+        System.err.println("Analiz deposu (PostgreSQL) hatası, " + retryAfterSeconds + " sn devre dışı: " + e.getMessage());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("available", enabled && schemaReady && System.currentTimeMillis() >= unavailableUntilMillis);
+        stats.put("pending", pending.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("dropped", dropped.get());
+        stats.put("flushes", flushes.get());
+        stats.put("flushedRecords", flushedRecords.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("reads", reads.get());
+        stats.put("readHits", readHits.get());
+        return stats;
+    }
+}
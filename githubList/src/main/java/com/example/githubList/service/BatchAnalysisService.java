@@ -0,0 +1,146 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.AnalysisResult;
+import com.example.githubList.model.RepositoryAnalysis;
+import com.example.githubList.util.RepoInputParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// Çok sayıda repo için puanlar: cache hit'ler toplu okunur, miss'ler sınırlı paralellikle analiz edilir.
+// Her sonuç hazır olduğu anda sink'e iletilir (sink thread-safe olmalı).
+@Service
+public class BatchAnalysisService {
+
+    @Autowired
+    private RepositoryAnalysisService analysisService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor analysisBatchExecutor;
+
+    public CompletableFuture<Void> run(List<String> repoInputs, Consumer<Map<String, Object>> sink) {
+        Map<String, String[]> parsed = new LinkedHashMap<>();
+        for (String input : repoInputs) {
+            String[] repoInfo = RepoInputParser.parse(input);
+            if (repoInfo == null) {
+                sink.accept(errorLine(input, RepoInputParser.INVALID_FORMAT_MESSAGE));
+            } else {
+                parsed.putIfAbsent(input, repoInfo);
+            }
+        }
+
+        // Cache hit'ler tek pipeline'da
+        List<String> cacheKeys = new ArrayList<>();
+        for (String[] repoInfo : parsed.values()) {
+            cacheKeys.add(RepositoryAnalysisService.analysisCacheKey(repoInfo[0], repoInfo[1]));
+        }
+        Map<String, RepositoryAnalysis> hits = cacheService.getCachedScoresBulk(cacheKeys);
+
+        Map<String, String[]> misses = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> entry : parsed.entrySet()) {
+            String input = entry.getKey();
+            String owner = entry.getValue()[0];
+            String repo = entry.getValue()[1];
+            RepositoryAnalysis cached = hits.get(RepositoryAnalysisService.analysisCacheKey(owner, repo));
+            if (cached != null) {
+                boolean stale = analysisService.refreshIfStale(owner, repo, cached);
+                sink.accept(scoreLine(input, owner + "/" + repo, cached, true, stale));
+            } else {
+                misses.put(input, entry.getValue());
+            }
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Miss'lerin GitHub verisi önce toplu (GraphQL) çekilir, analizler sonra dağıtılır
+        try {
+            return CompletableFuture
+                .runAsync(() -> prefetch(misses), analysisBatchExecutor)
+                .thenCompose(ignored -> analyzeMisses(misses, sink));
+        } catch (TaskRejectedException e) {
+            misses.keySet().forEach(input -> sink.accept(errorLine(input, "Toplu analiz kuyruğu dolu")));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void prefetch(Map<String, String[]> misses) {
+        try {
+            RequestPriority.callAs(RequestPriority.BACKGROUND, () -> {
+                analysisService.prefetchRepositories(new ArrayList<>(misses.values()));
+                return null;
+            });
+        } catch (Exception e) {
+            // Ön çekim başarısız olursa analizler repoları tek tek çeker
+            System.err.println("Toplu repo ön çekim hatası: " + e.getMessage());
+        }
+    }
+
+    private CompletableFuture<Void> analyzeMisses(Map<String, String[]> misses, Consumer<Map<String, Object>> sink) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : misses.entrySet()) {
+            String input = entry.getKey();
+            String owner = entry.getValue()[0];
+            String repo = entry.getValue()[1];
+            try {
+                futures.add(CompletableFuture.runAsync(() -> sink.accept(analyzeMiss(input, owner, repo)), analysisBatchExecutor));
+            } catch (TaskRejectedException e) {
+                sink.accept(errorLine(input, "Toplu analiz kuyruğu dolu"));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private Map<String, Object> analyzeMiss(String input, String owner, String repo) {
+        try {
+            // Toplu işler GitHub ve Groq kotalarında kullanıcı isteklerinden sonra gelir
+            AnalysisResult result = RequestPriority.callAs(RequestPriority.BACKGROUND,
+                () -> analysisService.analyze(owner, repo));
+            if (result.getRepository() == null) {
+                return errorLine(input, "Repository bulunamadı: " + owner + "/" + repo);
+            }
+            if (result.getAnalysis() == null) {
+                return errorLine(input, "Repository analizi başarısız oldu");
+            }
+            return scoreLine(input, result.getRepository().getFullName(), result.getAnalysis(), result.isFromCache(), result.isStale());
+        } catch (Exception e) {
+            return errorLine(input, "Analiz sırasında hata oluştu: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> scoreLine(String input, String repository, RepositoryAnalysis analysis,
+                                                  boolean cached, boolean stale) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("input", input);
+        line.put("repository", repository);
+        line.put("status", "ok");
+        line.put("cached", cached);
+        line.put("stale", stale);
+        line.put("technologyQuality", analysis.getTechnologyQuality());
+        line.put("learningValue", analysis.getLearningValue());
+        line.put("careerGrowth", analysis.getCareerGrowth());
+        line.put("communityActivity", analysis.getCommunityActivity());
+        line.put("recency", analysis.getRecency());
+        line.put("averageScore", analysis.getAverageScore());
+        return line;
+    }
+
+    private static Map<String, Object> errorLine(String input, String message) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("input", input);
+        line.put("status", "error");
+        line.put("error", message);
+        return line;
+    }
+}
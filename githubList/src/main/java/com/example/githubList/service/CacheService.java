@@ -1,34 +1,149 @@
 package com.example.githubList.service;
 
+import com.example.githubList.model.CachedResponse;
 import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
-public class CacheService {
+public class CacheService implements MessageListener {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
 
     private static final String CACHE_PREFIX = "github:repos:";
     private static final Duration CACHE_TTL = Duration.ofHours(4); // 4 saat
+    private static final String REPO_META_PREFIX = "github:repo:";
+    private static final String README_PREFIX = "github:readme:";
+    private static final String VALIDATOR_PREFIX = "github:validator:";
+    private static final String SUMMARY_PREFIX = "github:summary:";
+    private static final String CONTENT_ANALYSIS_PREFIX = "github:analysis:";
+    // Repo başına erişim sıklığı (sorted set, skor periyodik olarak azaltılır)
+    private static final String HOT_KEYS = "github:hot:repos";
+    private static final String HOT_KEYS_DECAY_LOCK = HOT_KEYS + ":decay";
+    private static final double HOT_KEY_MIN_SCORE = 0.5;
+    // clearAllCache'in sildiği key'ler (arama sonuçları dahil)
+    private static final List<String> CLEARABLE_PREFIXES = List.of(
+        CACHE_PREFIX, REPO_META_PREFIX, README_PREFIX, VALIDATOR_PREFIX, SUMMARY_PREFIX, CONTENT_ANALYSIS_PREFIX);
+    private static final int SCAN_BATCH = 500;
+
+    // Replikalar arası L1 invalidation kanalı, mesaj formatı: "<nodeId>|<key>"
+    public static final String INVALIDATION_CHANNEL = "githublist:cache:invalidate";
+    private static final String ALL_KEYS = "*";
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // L1: JVM içi, çözümlenmiş nesneleri tutan W-TinyLFU cache'ler (Caffeine)
+    private final Cache<String, RepositoryAnalysis> analysisL1;
+    private final Cache<String, GitHubRepository> repositoryL1;
+
+    // L2 (Redis) istatistikleri
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong redisMisses = new AtomicLong();
+    private final AtomicLong invalidationsPublished = new AtomicLong();
+    private final AtomicLong invalidationsReceived = new AtomicLong();
+    private final AtomicLong legacyMigrations = new AtomicLong();
+    private final AtomicLong fingerprintHits = new AtomicLong();
+    private final AtomicLong fingerprintMismatches = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong accessesRecorded = new AtomicLong();
+    private final AtomicLong accessFlushes = new AtomicLong();
+    private final AtomicLong accessDecays = new AtomicLong();
+
+    // Erişimler önce yerelde toplanır, periyodik olarak tek pipeline'da ZINCRBY ile yazılır
+    private final ConcurrentHashMap<String, Long> pendingAccesses = new ConcurrentHashMap<>();
+
+    // Metadata ve README farklı hızlarda değiştiği için ayrı TTL'ler
+    @Value("${app.cache.repository-ttl:7200}")
+    private long repositoryTtlSeconds;
+
+    @Value("${app.cache.readme-ttl:21600}")
+    private long readmeTtlSeconds;
+
+    // Soft TTL: bu süreden eski analizler hemen sunulur ama arka planda yenilenir
+    @Value("${app.cache.analysis-ttl:7200}")
+    private long analysisTtlSeconds;
+
+    // Hard TTL: Redis'teki kaydın ömrü, bundan sonra kullanıcı yeni analizi bekler
+    @Value("${app.cache.analysis-hard-ttl:86400}")
+    private long analysisHardTtlSeconds;
+
+    // Parmak izli analizler: girdi değişmediği sürece kullanılır, her kullanımda süre yenilenir
+    @Value("${app.cache.analysis-content-ttl:2592000}")
+    private long analysisContentTtlSeconds;
+
+    // ETag'ler taze cache'den çok daha uzun tutulur, 304 ile yenileme kota harcamaz
+    @Value("${app.cache.validator-ttl:604800}")
+    private long validatorTtlSeconds;
+
+    @Value("${app.cache.hot-keys.decay-interval-ms:3600000}")
+    private long hotKeyDecayIntervalMillis;
+
+    // Her azaltmada skorlar bu katsayıyla çarpılır: eski popülerlik zamanla unutulur
+    @Value("${app.cache.hot-keys.decay-factor:0.9}")
+    private double hotKeyDecayFactor;
+
+    @Value("${app.cache.hot-keys.max-tracked:10000}")
+    private int hotKeyMaxTracked;
 
     @Autowired
-    public CacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+    public CacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+                        @Value("${app.cache.l1.max-weight-kb:32768}") long l1MaxWeightKb,
+                        @Value("${app.cache.l1.max-repositories:5000}") long l1MaxRepositories,
+                        @Value("${app.cache.l1.ttl:300}") long l1TtlSeconds) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+
+        // Analizler metin ağırlıklı, bu yüzden boyuta göre (yaklaşık karakter sayısı) sınırlanır
+        this.analysisL1 = Caffeine.newBuilder()
+            .maximumWeight(l1MaxWeightKb * 1024)
+            .weigher((String key, RepositoryAnalysis analysis) -> approximateWeight(analysis))
+            .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+            .recordStats()
+            .build();
+        this.repositoryL1 = Caffeine.newBuilder()
+            .maximumSize(l1MaxRepositories)
+            .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+            .recordStats()
+            .build();
     }
 
-    public void cacheRepositories(String language, String query, List<GitHubRepository> repositories) {
+    // Arama sonuçları (language, query, page) başına ayrı kaydedilir
+    public void cacheRepositories(String language, String query, int page, List<GitHubRepository> repositories) {
         try {
-            String cacheKey = buildCacheKey(language, query);
+            String cacheKey = buildCacheKey(language, query, page);
             String jsonData = objectMapper.writeValueAsString(repositories);
             redisTemplate.opsForValue().set(cacheKey, jsonData, CACHE_TTL);
         } catch (Exception e) {
@@ -36,9 +151,9 @@ public class CacheService {
         }
     }
 
-    public Optional<List<GitHubRepository>> getCachedRepositories(String language, String query) {
+    public Optional<List<GitHubRepository>> getCachedRepositories(String language, String query, int page) {
         try {
-            String cacheKey = buildCacheKey(language, query);
+            String cacheKey = buildCacheKey(language, query, page);
             Object cachedData = redisTemplate.opsForValue().get(cacheKey);
             
             if (cachedData != null) {
@@ -58,7 +173,7 @@ public class CacheService {
 
     public void cacheRepositorySummary(String repoId, String summary) {
         try {
-            String cacheKey = "github:summary:" + repoId;
+            String cacheKey = SUMMARY_PREFIX + repoId;
             redisTemplate.opsForValue().set(cacheKey, summary, Duration.ofHours(2));
         } catch (Exception e) {
             System.err.println("Özet cache kaydetme hatası: " + e.getMessage());
@@ -67,7 +182,7 @@ public class CacheService {
 
     public Optional<String> getCachedSummary(String repoId) {
         try {
-            String cacheKey = "github:summary:" + repoId;
+            String cacheKey = SUMMARY_PREFIX + repoId;
             Object cachedData = redisTemplate.opsForValue().get(cacheKey);
             
             if (cachedData != null) {
@@ -80,27 +195,490 @@ public class CacheService {
         return Optional.empty();
     }
 
+    // Repo metadata'sını README olmadan cache'le
+    public void cacheRepository(String owner, String repo, GitHubRepository repository) {
+        String cacheKey = REPO_META_PREFIX + canonicalRepoId(owner, repo);
+        try {
+            String jsonData = objectMapper.writeValueAsString(repository);
+            redisTemplate.opsForValue().set(cacheKey, jsonData, Duration.ofSeconds(repositoryTtlSeconds));
+            repositoryL1.put(cacheKey, repository.copy());
+            publishInvalidation(cacheKey);
+        } catch (Exception e) {
+            System.err.println("Repository cache kaydetme hatası: " + e.getMessage());
+        }
+    }
+
+    // Çağıranlar dönen nesneyi değiştirebildiği için L1'den kopya döndürülür
+    public Optional<GitHubRepository> getCachedRepository(String owner, String repo) {
+        String cacheKey = REPO_META_PREFIX + canonicalRepoId(owner, repo);
+        GitHubRepository local = repositoryL1.getIfPresent(cacheKey);
+        if (local != null) {
+            return Optional.of(local.copy());
+        }
+        try {
+            Object cachedData = redisTemplate.opsForValue().get(cacheKey);
+            if (cachedData != null) {
+                redisHits.incrementAndGet();
+                GitHubRepository repository = objectMapper.readValue(cachedData.toString(), GitHubRepository.class);
+                repositoryL1.put(cacheKey, repository);
+                return Optional.of(repository.copy());
+            }
+            redisMisses.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("Repository cache okuma hatası: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // Metadata cache'inin kalan ömrü (sn); kayıt yoksa veya Redis'e ulaşılamıyorsa -2
+    public long getRepositoryTtl(String owner, String repo) {
+        try {
+            Long seconds = redisTemplate.getExpire(REPO_META_PREFIX + canonicalRepoId(owner, repo));
+            return seconds != null ? seconds : -2;
+        } catch (Exception e) {
+            System.err.println("Repository TTL okuma hatası: " + e.getMessage());
+            return -2;
+        }
+    }
+
+    // README yoksa boş string saklanır, böylece README'siz repolar her seferinde tekrar sorgulanmaz
+    public void cacheReadme(String owner, String repo, String readmeContent) {
+        try {
+            redisTemplate.opsForValue().set(README_PREFIX + canonicalRepoId(owner, repo),
+                readmeContent != null ? readmeContent : "", Duration.ofSeconds(readmeTtlSeconds));
+        } catch (Exception e) {
+            System.err.println("README cache kaydetme hatası: " + e.getMessage());
+        }
+    }
+
+    public Optional<String> getCachedReadme(String owner, String repo) {
+        try {
+            Object cachedData = redisTemplate.opsForValue().get(README_PREFIX + canonicalRepoId(owner, repo));
+            if (cachedData != null) {
+                return Optional.of(cachedData.toString());
+            }
+        } catch (Exception e) {
+            System.err.println("README cache okuma hatası: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // kind: "repo" veya "readme"
+    public void cacheValidatedResponse(String kind, String owner, String repo, CachedResponse response) {
+        try {
+            String jsonData = objectMapper.writeValueAsString(response);
+            redisTemplate.opsForValue().set(VALIDATOR_PREFIX + kind + ":" + canonicalRepoId(owner, repo), jsonData,
+                Duration.ofSeconds(validatorTtlSeconds));
+        } catch (Exception e) {
+            System.err.println("Validator cache kaydetme hatası: " + e.getMessage());
+        }
+    }
+
+    public Optional<CachedResponse> getValidatedResponse(String kind, String owner, String repo) {
+        try {
+            Object cachedData = redisTemplate.opsForValue().get(VALIDATOR_PREFIX + kind + ":" + canonicalRepoId(owner, repo));
+            if (cachedData != null) {
+                return Optional.of(objectMapper.readValue(cachedData.toString(), CachedResponse.class));
+            }
+        } catch (Exception e) {
+            System.err.println("Validator cache okuma hatası: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // Repo metadata ve README cache'ini temizle
+    public void clearRepositoryCache(String owner, String repo) {
+        String repoId = canonicalRepoId(owner, repo);
+        clearCache(REPO_META_PREFIX + repoId);
+        clearCache(README_PREFIX + repoId);
+        clearCache(CONTENT_ANALYSIS_PREFIX + repoId);
+    }
+
+    // GitHub owner/repo adları büyük-küçük harf duyarsız
+    public static String canonicalRepoId(String owner, String repo) {
+        return owner.toLowerCase().trim() + "/" + repo.toLowerCase().trim();
+    }
+
+    // Analiz, her alanı ayrı field olan bir Redis hash olarak tek pipeline'da yazılır
+    public void cacheAnalysis(String repoId, RepositoryAnalysis analysis) {
+        String cacheKey = SUMMARY_PREFIX + repoId;
+        try {
+            analysis.setCachedAt(System.currentTimeMillis());
+            writeAnalysisHash(cacheKey, AnalysisCodec.encode(analysis), Duration.ofSeconds(analysisHardTtlSeconds));
+            analysisL1.put(cacheKey, analysis.copy());
+            publishInvalidation(cacheKey);
+        } catch (Exception e) {
+            System.err.println("Analiz cache kaydetme hatası: " + e.getMessage());
+        }
+    }
+
+    // Soft TTL'i geçmiş analiz; yazılma zamanı olmayan eski kayıtlar taze sayılır
+    public boolean isStale(RepositoryAnalysis analysis) {
+        Long cachedAt = analysis.getCachedAt();
+        boolean stale = cachedAt != null && System.currentTimeMillis() - cachedAt > analysisTtlSeconds * 1000;
+        if (stale) {
+            staleHits.incrementAndGet();
+        }
+        return stale;
+    }
+
+    // Hard TTL'i geçmiş analiz artık doğrudan sunulmaz
+    public boolean isPastHardTtl(RepositoryAnalysis analysis) {
+        Long cachedAt = analysis.getCachedAt();
+        return cachedAt != null && System.currentTimeMillis() - cachedAt >= analysisHardTtlSeconds * 1000;
+    }
+
+    // Soft TTL'e kalan süre (sn); yazılma zamanı olmayan kayıtlar için Long.MAX_VALUE
+    public long secondsUntilStale(RepositoryAnalysis analysis) {
+        return secondsUntil(analysis, analysisTtlSeconds);
+    }
+
+    // Hard TTL'e (Redis'ten düşmesine) kalan süre (sn)
+    public long secondsUntilExpiry(RepositoryAnalysis analysis) {
+        return secondsUntil(analysis, analysisHardTtlSeconds);
+    }
+
+    private static long secondsUntil(RepositoryAnalysis analysis, long ttlSeconds) {
+        Long cachedAt = analysis.getCachedAt();
+        if (cachedAt == null) {
+            return Long.MAX_VALUE;
+        }
+        return ttlSeconds - (System.currentTimeMillis() - cachedAt) / 1000;
+    }
+
+    // Kalıcı depodan geri yükleme: yazılma zamanı korunur, Redis ömrü hard TTL'den kalan süre kadar
+    public void restoreAnalysis(String repoId, RepositoryAnalysis analysis) {
+        String cacheKey = SUMMARY_PREFIX + repoId;
+        long ageSeconds = analysis.getCachedAt() != null
+            ? (System.currentTimeMillis() - analysis.getCachedAt()) / 1000 : 0;
+        long remainingSeconds = analysisHardTtlSeconds - ageSeconds;
+        if (remainingSeconds <= 0) {
+            return;
+        }
+        try {
+            writeAnalysisHash(cacheKey, AnalysisCodec.encode(analysis), Duration.ofSeconds(remainingSeconds));
+            analysisL1.put(cacheKey, analysis.copy());
+            publishInvalidation(cacheKey);
+        } catch (Exception e) {
+            System.err.println("Analiz cache geri yükleme hatası: " + e.getMessage());
+        }
+    }
+
+    // Repo başına tek kayıt; parmak izi "fp" alanında. Prompt versiyonu veya girdi değişince
+    // kayıt silinmez, sadece eşleşmez ve bir sonraki analizde üzerine yazılır
+    public void cacheAnalysisByFingerprint(String owner, String repo, String fingerprint, RepositoryAnalysis analysis) {
+        String cacheKey = CONTENT_ANALYSIS_PREFIX + canonicalRepoId(owner, repo);
+        try {
+            Map<String, Object> fields = AnalysisCodec.encode(analysis);
+            fields.put(AnalysisCodec.FINGERPRINT, fingerprint);
+            writeAnalysisHash(cacheKey, fields, Duration.ofSeconds(analysisContentTtlSeconds));
+        } catch (Exception e) {
+            System.err.println("Parmak izli analiz kaydetme hatası: " + e.getMessage());
+        }
+    }
+
+    public Optional<RepositoryAnalysis> getAnalysisByFingerprint(String owner, String repo, String fingerprint) {
+        String cacheKey = CONTENT_ANALYSIS_PREFIX + canonicalRepoId(owner, repo);
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(cacheKey);
+            if (fields.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!fingerprint.equals(fields.get(AnalysisCodec.FINGERPRINT))) {
+                fingerprintMismatches.incrementAndGet();
+                return Optional.empty();
+            }
+            redisTemplate.expire(cacheKey, Duration.ofSeconds(analysisContentTtlSeconds));
+            fingerprintHits.incrementAndGet();
+            return Optional.of(AnalysisCodec.decode(fields));
+        } catch (Exception e) {
+            System.err.println("Parmak izli analiz okuma hatası: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Parmak izine bakmadan repo için saklanan son analiz (README'si benzer repolara uyarlamak için)
+    public Optional<RepositoryAnalysis> getLatestAnalysis(String owner, String repo) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(CONTENT_ANALYSIS_PREFIX + canonicalRepoId(owner, repo));
+            return fields.isEmpty() ? Optional.empty() : Optional.of(AnalysisCodec.decode(fields));
+        } catch (Exception e) {
+            System.err.println("Analiz okuma hatası: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // L1'deki nesne paylaşıldığı için çağırana kopyası verilir (lazy HTML alanları, puan düzeltmeleri nesneyi değiştirir)
+    public Optional<RepositoryAnalysis> getCachedAnalysis(String repoId) {
+        String cacheKey = SUMMARY_PREFIX + repoId;
+        RepositoryAnalysis local = analysisL1.getIfPresent(cacheKey);
+        if (local != null) {
+            return Optional.of(local.copy());
+        }
+        try {
+            Map<Object, Object> fields;
+            try {
+                fields = redisTemplate.opsForHash().entries(cacheKey);
+            } catch (RedisSystemException e) {
+                if (!isWrongType(e)) {
+                    throw e;
+                }
+                // Key hâlâ eski string formatında
+                return migrateLegacyAnalysis(cacheKey);
+            }
+            if (fields.isEmpty()) {
+                redisMisses.incrementAndGet();
+                return Optional.empty();
+            }
+            redisHits.incrementAndGet();
+            RepositoryAnalysis analysis = AnalysisCodec.decode(fields);
+            analysisL1.put(cacheKey, analysis);
+            return Optional.of(analysis.copy());
+        } catch (Exception e) {
+            System.err.println("Analiz cache okuma hatası: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Sadece puanlar: metin alanları okunmadan HMGET ile
+    public Optional<RepositoryAnalysis> getCachedScores(String repoId) {
+        String cacheKey = SUMMARY_PREFIX + repoId;
+        RepositoryAnalysis local = analysisL1.getIfPresent(cacheKey);
+        if (local != null) {
+            return Optional.of(local.copy());
+        }
+        try {
+            List<Object> values;
+            try {
+                values = redisTemplate.opsForHash().multiGet(cacheKey, AnalysisCodec.SCORE_FIELDS);
+            } catch (RedisSystemException e) {
+                if (!isWrongType(e)) {
+                    throw e;
+                }
+                return migrateLegacyAnalysis(cacheKey);
+            }
+            return Optional.ofNullable(AnalysisCodec.decodeScores(values));
+        } catch (Exception e) {
+            System.err.println("Puan cache okuma hatası: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Çok sayıda repo için puanlar: önce L1, kalanlar tek pipeline'da HMGET ile
+    @SuppressWarnings("unchecked")
+    public Map<String, RepositoryAnalysis> getCachedScoresBulk(List<String> repoIds) {
+        Map<String, RepositoryAnalysis> found = new LinkedHashMap<>();
+        List<String> remoteIds = new ArrayList<>();
+        for (String repoId : repoIds) {
+            RepositoryAnalysis local = analysisL1.getIfPresent(SUMMARY_PREFIX + repoId);
+            if (local != null) {
+                found.put(repoId, local.copy());
+            } else {
+                remoteIds.add(repoId);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (String repoId : remoteIds) {
+                        ops.opsForHash().multiGet(SUMMARY_PREFIX + repoId, AnalysisCodec.SCORE_FIELDS);
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < remoteIds.size(); i++) {
+                RepositoryAnalysis scores = AnalysisCodec.decodeScores((List<Object>) results.get(i));
+                if (scores != null) {
+                    found.put(remoteIds.get(i), scores);
+                }
+            }
+        } catch (DataAccessException e) {
+            if (!isWrongType(e)) {
+                // Redis yok veya zaman aşımı: tek tek denemenin anlamı yok, hepsi cache miss sayılır
+                System.err.println("Toplu puan cache okuma hatası: " + e.getMessage());
+                return found;
+            }
+            // Pipeline'da eski formatta bir key var: tek tek oku (eski kayıtlar taşınır)
+            for (String repoId : remoteIds) {
+                getCachedScores(repoId).ifPresent(scores -> found.put(repoId, scores));
+            }
+        } catch (Exception e) {
+            System.err.println("Toplu puan cache okuma hatası: " + e.getMessage());
+        }
+        return found;
+    }
+
+    // Sadece eski string formatındaki key'e hash komutu gönderildiğinde (WRONGTYPE); bağlantı hatası
+    // veya zaman aşımında taşıma denenmez, ölü Redis'e ikinci bir istek gitmez
+    static boolean isWrongType(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().startsWith("WRONGTYPE")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Eski satır formatındaki kaydı okuyup kalan TTL ile hash formatına çevirir
+    private Optional<RepositoryAnalysis> migrateLegacyAnalysis(String cacheKey) {
+        Object legacyText = redisTemplate.opsForValue().get(cacheKey);
+        if (legacyText == null) {
+            return Optional.empty();
+        }
+        RepositoryAnalysis analysis = AnalysisCodec.decodeLegacy(legacyText.toString());
+        Long remainingSeconds = redisTemplate.getExpire(cacheKey);
+        Duration ttl = remainingSeconds != null && remainingSeconds > 0
+            ? Duration.ofSeconds(remainingSeconds) : Duration.ofSeconds(analysisHardTtlSeconds);
+        writeAnalysisHash(cacheKey, AnalysisCodec.encode(analysis), ttl);
+        legacyMigrations.incrementAndGet();
+        analysisL1.put(cacheKey, analysis);
+        System.out.println("Analiz cache yeni formata taşındı: " + cacheKey);
+        return Optional.of(analysis.copy());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeAnalysisHash(String cacheKey, Map<String, Object> fields, Duration ttl) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.delete(cacheKey);
+                ops.opsForHash().putAll(cacheKey, fields);
+                ops.expire(cacheKey, ttl);
+                return null;
+            }
+        });
+    }
+
+    // Kullanıcı isteği başına çağrılır; Redis'e gitmez
+    public void recordAccess(String owner, String repo) {
+        pendingAccesses.merge(canonicalRepoId(owner, repo), 1L, Long::sum);
+        accessesRecorded.incrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Scheduled(fixedDelayString = "${app.cache.hot-keys.flush-interval-ms:10000}")
+    public void flushAccessCounts() {
+        if (pendingAccesses.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String repoId : pendingAccesses.keySet()) {
+            // remove() atomik: bu arada gelen erişimler yeni bir kayıtta birikir
+            Long count = pendingAccesses.remove(repoId);
+            if (count != null) {
+                counts.put(repoId, count);
+            }
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    counts.forEach((repoId, count) -> ops.opsForZSet().incrementScore(HOT_KEYS, repoId, count));
+                    return null;
+                }
+            });
+            accessFlushes.incrementAndGet();
+        } catch (Exception e) {
+            // Sayımlar kaybolur; sıklık zaten yaklaşık bir sinyal
+            System.err.println("Erişim sayacı yazma hatası: " + e.getMessage());
+        }
+    }
+
+    // Skorlar katsayıyla çarpılır (ZUNIONSTORE WEIGHTS), çok düşükler ve max-tracked dışındakiler atılır.
+    // Kilit sayesinde replikalardan yalnızca biri azaltır
+    @Scheduled(fixedDelayString = "${app.cache.hot-keys.decay-interval-ms:3600000}",
+               initialDelayString = "${app.cache.hot-keys.decay-interval-ms:3600000}")
+    public void decayAccessCounts() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(HOT_KEYS_DECAY_LOCK, nodeId,
+                Duration.ofMillis(hotKeyDecayIntervalMillis * 9 / 10));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            redisTemplate.opsForZSet().unionAndStore(HOT_KEYS, List.of(), HOT_KEYS, Aggregate.SUM, Weights.of(hotKeyDecayFactor));
+            redisTemplate.opsForZSet().removeRangeByScore(HOT_KEYS, 0, HOT_KEY_MIN_SCORE);
+            redisTemplate.opsForZSet().removeRange(HOT_KEYS, 0, -(hotKeyMaxTracked + 1L));
+            accessDecays.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("Erişim sayacı azaltma hatası: " + e.getMessage());
+        }
+    }
+
+    // En sık istenen repolar (canonical id), en popülerden başlayarak
+    public List<String> getHotRepos(int limit) {
+        try {
+            Set<Object> repoIds = redisTemplate.opsForZSet().reverseRange(HOT_KEYS, 0, limit - 1);
+            List<String> hot = new ArrayList<>();
+            if (repoIds != null) {
+                repoIds.forEach(repoId -> hot.add(repoId.toString()));
+            }
+            return hot;
+        } catch (Exception e) {
+            System.err.println("Popüler repo okuma hatası: " + e.getMessage());
+            return List.of();
+        }
+    }
+
     // Belirli bir cache key'ini temizle
     public void clearCache(String cacheKey) {
         try {
             redisTemplate.delete(cacheKey);
+            evictLocal(cacheKey);
+            publishInvalidation(cacheKey);
             System.out.println("Cache key temizlendi: " + cacheKey);
         } catch (Exception e) {
             System.err.println("Cache temizleme hatası: " + e.getMessage());
         }
     }
 
-    // Tüm cache'i temizle
+    // Tüm cache'i temizle; analizler PostgreSQL'de (AnalysisStore) kalır ve ilk istekte geri yüklenir.
+    // Sadece cache prefix'leri silinir: leaderboard, MinHash indeksi ve erişim sayaçları cache değil, korunur
     public void clearAllCache() {
         try {
-            // Tüm cache'i temizle
-            redisTemplate.getConnectionFactory().getConnection().flushDb();
-            System.out.println("Tüm cache başarıyla temizlendi");
+            long deleted = 0;
+            for (String prefix : CLEARABLE_PREFIXES) {
+                deleted += deleteByPrefix(prefix);
+            }
+            evictLocal(ALL_KEYS);
+            publishInvalidation(ALL_KEYS);
+            System.out.println("Tüm cache başarıyla temizlendi: " + deleted + " key");
         } catch (Exception e) {
             System.err.println("Cache temizleme hatası: " + e.getMessage());
         }
     }
 
+    // KEYS yerine SCAN: büyük veritabanında Redis'i bloklamaz; silme UNLINK ile arka planda
+    private long deleteByPrefix(String prefix) {
+        long deleted = 0;
+        List<String> batch = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH).build())) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH) {
+                    deleted += unlink(batch);
+                }
+            }
+        }
+        return deleted + unlink(batch);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = redisTemplate.unlink(keys);
+        keys.clear();
+        return count != null ? count : 0;
+    }
+
     public boolean isCacheAvailable() {
         try {
             redisTemplate.opsForValue().set("test:connection", "test", Duration.ofSeconds(10));
@@ -112,9 +690,102 @@ public class CacheService {
         }
     }
 
-    private String buildCacheKey(String language, String query) {
-        String normalizedLanguage = language != null ? language.toLowerCase().trim() : "all";
-        String normalizedQuery = query != null ? query.toLowerCase().trim() : "trending";
-        return CACHE_PREFIX + normalizedLanguage + ":" + normalizedQuery;
+    // Diğer replikalara bu key'in L1 kopyasını atmalarını bildir
+    private void publishInvalidation(String cacheKey) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + cacheKey);
+            invalidationsPublished.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("Cache invalidation yayınlama hatası: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (payload == null) {
+            return;
+        }
+        String[] parts = payload.toString().split("\\|", 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return; // Kendi yayınımız, L1 zaten güncel
+        }
+        invalidationsReceived.incrementAndGet();
+        evictLocal(parts[1]);
+    }
+
+    private void evictLocal(String cacheKey) {
+        if (ALL_KEYS.equals(cacheKey)) {
+            analysisL1.invalidateAll();
+            repositoryL1.invalidateAll();
+        } else {
+            analysisL1.invalidate(cacheKey);
+            repositoryL1.invalidate(cacheKey);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("l1Analysis", describe(analysisL1.stats(), analysisL1.estimatedSize()));
+        stats.put("l1Repository", describe(repositoryL1.stats(), repositoryL1.estimatedSize()));
+
+        Map<String, Object> redis = new LinkedHashMap<>();
+        redis.put("hits", redisHits.get());
+        redis.put("misses", redisMisses.get());
+        redis.put("invalidationsPublished", invalidationsPublished.get());
+        redis.put("invalidationsReceived", invalidationsReceived.get());
+        redis.put("legacyMigrations", legacyMigrations.get());
+        redis.put("fingerprintHits", fingerprintHits.get());
+        redis.put("fingerprintMismatches", fingerprintMismatches.get());
+        redis.put("staleHits", staleHits.get());
+        stats.put("redis", redis);
+
+        Map<String, Object> hotKeys = new LinkedHashMap<>();
+        hotKeys.put("accessesRecorded", accessesRecorded.get());
+        hotKeys.put("pending", pendingAccesses.size());
+        hotKeys.put("flushes", accessFlushes.get());
+        hotKeys.put("decays", accessDecays.get());
+        stats.put("hotKeys", hotKeys);
+        return stats;
+    }
+
+    private static Map<String, Object> describe(CacheStats cacheStats, long size) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size);
+        stats.put("hits", cacheStats.hitCount());
+        stats.put("misses", cacheStats.missCount());
+        stats.put("evictions", cacheStats.evictionCount());
+        stats.put("hitRate", cacheStats.hitRate());
+        return stats;
+    }
+
+    private static int approximateWeight(RepositoryAnalysis analysis) {
+        int chars = 256;
+        for (String text : new String[]{
+                analysis.getGeneralRecommendation(), analysis.getProjectSummary(),
+                analysis.getTechnologyQualityDescription(), analysis.getLearningValueDescription(),
+                analysis.getCareerGrowthDescription(), analysis.getCommunityActivityDescription(),
+                analysis.getRecencyDescription(), analysis.getImprovementRecommendations(),
+                analysis.getUsedTechnologies(), analysis.getTargetAudience()}) {
+            if (text != null) {
+                chars += text.length();
+            }
+        }
+        return chars * 2;
+    }
+
+    private String buildCacheKey(String language, String query, int page) {
+        return CACHE_PREFIX + searchKey(language, query, page);
+    }
+
+    // Arama sonucu kimliği: eksik dil/sorgu boş segment, her segment URL-encode edilir
+    // (":" içeren değerler çakışmasın; "trending" sorgusu ile sorgusuz arama ayrı kalsın)
+    public static String searchKey(String language, String query, int page) {
+        return encodeSegment(language) + ":" + encodeSegment(query) + ":" + page;
+    }
+
+    private static String encodeSegment(String value) {
+        String normalized = value != null ? value.toLowerCase(Locale.ROOT).trim() : "";
+        return URLEncoder.encode(normalized, StandardCharsets.UTF_8);
     }
 }
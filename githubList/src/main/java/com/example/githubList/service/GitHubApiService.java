@@ -1,60 +1,350 @@
 package com.example.githubList.service;
 
+import com.example.githubList.model.CachedResponse;
 import com.example.githubList.model.GitHubRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Service
 public class GitHubApiService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final CacheService cacheService;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
 
     @Value("${github.api.token:}")
     private String githubToken;
 
+    // Metadata ve README isteklerini paralel gönder
+    @Value("${github.api.concurrent-fetch:true}")
+    private boolean concurrentFetch;
+
+    @Value("${github.api.fetch-threads:8}")
+    private int fetchThreads;
+
+    // Toplu çekimde tek GraphQL sorgusuna giren repo sayısı (token gerektirir)
+    @Value("${github.api.graphql-batch-size:50}")
+    private int graphqlBatchSize;
+
+    private ThreadPoolExecutor fetchExecutor;
+
+    // Bacak bazında süre ölçümleri (ms)
+    private final AtomicLong fetchCount = new AtomicLong();
+    private final AtomicLong metadataMillis = new AtomicLong();
+    private final AtomicLong readmeMillis = new AtomicLong();
+    private final AtomicLong wallMillis = new AtomicLong();
+
+    // Koşullu istek sonuçları: 304 yanıtları rate limit'e sayılmaz
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong modifiedCount = new AtomicLong();
+
+    // Toplu GraphQL çekimleri
+    private final AtomicLong graphqlQueries = new AtomicLong();
+    private final AtomicLong graphqlRepositories = new AtomicLong();
+    private final AtomicLong restFallbacks = new AtomicLong();
+
     private static final String GITHUB_API_BASE_URL = "https://api.github.com";
     private static final String GITHUB_REPO_URL = GITHUB_API_BASE_URL + "/repos/{owner}/{repo}";
     private static final String GITHUB_README_URL = GITHUB_API_BASE_URL + "/repos/{owner}/{repo}/readme";
+    private static final String GITHUB_GRAPHQL_URL = GITHUB_API_BASE_URL + "/graphql";
+    private static final String GITHUB_SEARCH_URL = GITHUB_API_BASE_URL + "/search/repositories";
+
+    // Her repo için sorgulanan alanlar; README sık kullanılan dosya adlarından okunur
+    private static final String GRAPHQL_REPO_FIELDS =
+        "databaseId name nameWithOwner description url stargazerCount forkCount pushedAt "
+        + "primaryLanguage { name } "
+        + "readmeMd: object(expression: \"HEAD:README.md\") { ... on Blob { text } } "
+        + "readmeLower: object(expression: \"HEAD:readme.md\") { ... on Blob { text } } "
+        + "readmePlain: object(expression: \"HEAD:README\") { ... on Blob { text } } "
+        + "readmeRst: object(expression: \"HEAD:README.rst\") { ... on Blob { text } }";
+    private static final String[] GRAPHQL_README_ALIASES = {"readmeMd", "readmeLower", "readmePlain", "readmeRst"};
 
-    public GitHubApiService() {
-        this.restTemplate = new RestTemplate();
+    // Paylaşılan, havuzlu HTTP istemcisi (bkz. HttpClientConfig)
+    @Autowired
+    public GitHubApiService(RestTemplate outboundRestTemplate, CacheService cacheService,
+                            GitHubRateLimitGovernor rateLimitGovernor) {
+        this.restTemplate = outboundRestTemplate;
         this.objectMapper = new ObjectMapper();
+        this.cacheService = cacheService;
+        this.rateLimitGovernor = rateLimitGovernor;
     }
 
 
 
+    @PostConstruct
+    void initExecutor() {
+        // Sınırlı havuz: kuyruk dolarsa istek çağıran thread'de çalışır
+        AtomicInteger threadIndex = new AtomicInteger();
+        fetchExecutor = new ThreadPoolExecutor(fetchThreads, fetchThreads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(fetchThreads * 16),
+            runnable -> {
+                Thread thread = new Thread(runnable, "github-fetch-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        fetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        fetchExecutor.shutdownNow();
+    }
+
     public GitHubRepository getRepository(String owner, String repo) {
+        long start = System.nanoTime();
+        GitHubRepository repository;
+
+        if (concurrentFetch) {
+            // İki URL de owner/repo'dan belli, istekleri aynı anda gönder (çağıranın önceliğiyle)
+            RequestPriority priority = RequestPriority.current();
+            CompletableFuture<GitHubRepository> metadataFuture = CompletableFuture.supplyAsync(
+                () -> RequestPriority.callAs(priority, timed(metadataMillis, () -> getRepositoryMetadata(owner, repo))), fetchExecutor);
+            CompletableFuture<String> readmeFuture = CompletableFuture.supplyAsync(
+                () -> RequestPriority.callAs(priority, timed(readmeMillis, () -> getReadmeContent(owner, repo))), fetchExecutor);
+
+            repository = join(metadataFuture);
+            String readmeContent = join(readmeFuture);
+            if (repository != null) {
+                repository.setReadmeContent(readmeContent);
+            }
+        } else {
+            repository = timed(metadataMillis, () -> getRepositoryMetadata(owner, repo)).get();
+            if (repository != null) {
+                // README içeriğini de al
+                repository.setReadmeContent(timed(readmeMillis, () -> getReadmeContent(owner, repo)).get());
+            }
+        }
+
+        wallMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        fetchCount.incrementAndGet();
+        return repository;
+    }
+
+    // Kota hatası gibi exception'lar CompletionException'a sarılmadan iletilsin
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private <T> Supplier<T> timed(AtomicLong totalMillis, Supplier<T> call) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                totalMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        };
+    }
+
+    // Çok sayıda repo için metadata + README. Token varsa repolar graphqlBatchSize'lık
+    // alias'lı GraphQL sorgularıyla çekilir; yalnızca GraphQL'in NOT_FOUND dediği repolar
+    // (ör. taşınmış/yeniden adlandırılmış) REST ile tek tek denenir. GraphQL kotası dolarsa
+    // toplu çekim GitHubRateLimitException ile durur, repolar REST'e (repo başına 2 istek) aktarılmaz.
+    // GraphQL'de README yaygın yollardan okunur, bulunamazsa readmeContent null kalır.
+    // Sonuç CacheService.canonicalRepoId anahtarlıdır, bulunamayan repolar sonuçta yer almaz.
+    public Map<String, GitHubRepository> getRepositories(List<String[]> repos) {
+        Map<String, GitHubRepository> result = new LinkedHashMap<>();
+        List<String[]> restRepos = new ArrayList<>();
+
+        if (!isGraphQlAvailable()) {
+            restRepos.addAll(repos);
+        } else {
+            for (int from = 0; from < repos.size(); from += graphqlBatchSize) {
+                List<String[]> chunk = repos.subList(from, Math.min(repos.size(), from + graphqlBatchSize));
+                result.putAll(fetchGraphQlChunk(chunk, restRepos));
+            }
+        }
+
+        for (String[] ownerRepo : restRepos) {
+            restFallbacks.incrementAndGet();
+            GitHubRepository repository = getRepository(ownerRepo[0], ownerRepo[1]);
+            if (repository != null) {
+                result.put(CacheService.canonicalRepoId(ownerRepo[0], ownerRepo[1]), repository);
+            }
+        }
+        return result;
+    }
+
+    // GraphQL API kimlik doğrulaması olmadan çalışmaz
+    public boolean isGraphQlAvailable() {
+        return githubToken != null && !githubToken.trim().isEmpty();
+    }
+
+    // Tek istek: her repo r0, r1, ... alias'ı ile, owner/name değerleri değişken olarak gönderilir.
+    // GraphQL'in NOT_FOUND dediği repolar notFound listesine eklenir
+    private Map<String, GitHubRepository> fetchGraphQlChunk(List<String[]> chunk, List<String[]> notFound) {
+        Map<String, GitHubRepository> fetched = new LinkedHashMap<>();
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            declarations.append(i == 0 ? "" : ", ").append("$o").append(i).append(": String!, $n").append(i).append(": String!");
+            selections.append("r").append(i).append(": repository(owner: $o").append(i).append(", name: $n").append(i)
+                .append(") { ").append(GRAPHQL_REPO_FIELDS).append(" } ");
+            variables.put("o" + i, chunk.get(i)[0]);
+            variables.put("n" + i, chunk.get(i)[1]);
+        }
+
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("query", "query(" + declarations + ") { " + selections + "}");
+        requestBody.put("variables", variables);
+
+        long start = System.nanoTime();
         try {
-            String url = GITHUB_REPO_URL.replace("{owner}", owner).replace("{repo}", repo);
-            
             HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
+            ResponseEntity<String> response = exchange("graphql", GITHUB_GRAPHQL_URL, HttpMethod.POST, entity);
+            graphqlQueries.incrementAndGet();
 
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                return fetched;
+            }
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode repoNode = objectMapper.readTree(response.getBody());
-                GitHubRepository repository = parseRepository(repoNode);
-                
-                // README içeriğini de al
-                fetchReadmeContent(repository);
-                
-                return repository;
+            // Bulunamayan repolar "errors" içinde döner, ilgili alias null olur. Kota aşımı da
+            // HTTP 200 ile errors[].type RATE_LIMITED olarak gelebilir (data null)
+            JsonNode root = objectMapper.readTree(response.getBody());
+            for (JsonNode error : root.path("errors")) {
+                String type = error.path("type").asText("");
+                if ("RATE_LIMITED".equals(type)) {
+                    throw rateLimitGovernor.exhausted("graphql");
+                }
+                String alias = error.path("path").path(0).asText("");
+                if ("NOT_FOUND".equals(type) && alias.startsWith("r")) {
+                    try {
+                        notFound.add(chunk.get(Integer.parseInt(alias.substring(1))));
+                    } catch (RuntimeException e) {
+                        System.err.println("GraphQL hata yolu okunamadı: " + alias);
+                    }
+                }
+            }
+
+            JsonNode data = root.path("data");
+            for (int i = 0; i < chunk.size(); i++) {
+                JsonNode repoNode = data.path("r" + i);
+                if (repoNode.isMissingNode() || repoNode.isNull()) {
+                    continue;
+                }
+                // Yaygın adların hiçbiri yoksa README null kalır (Readme.md, docs/README.md vb. olabilir)
+                fetched.put(CacheService.canonicalRepoId(chunk.get(i)[0], chunk.get(i)[1]), parseGraphQlRepository(repoNode));
+            }
+            graphqlRepositories.addAndGet(fetched.size());
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("GraphQL toplu getirme hatası: " + e.getMessage());
+        } finally {
+            System.out.println("GraphQL toplu getirme: " + fetched.size() + "/" + chunk.size() + " repo, "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        }
+        return fetched;
+    }
+
+    private GitHubRepository parseGraphQlRepository(JsonNode repoNode) {
+        GitHubRepository repo = new GitHubRepository();
+        repo.setId(repoNode.path("databaseId").asLong());
+        repo.setName(repoNode.path("name").asText());
+        repo.setFullName(repoNode.path("nameWithOwner").asText());
+        repo.setDescription(repoNode.path("description").asText(null));
+        repo.setLanguage(repoNode.path("primaryLanguage").path("name").asText(null));
+        repo.setStargazersCount(repoNode.path("stargazerCount").asInt(0));
+        repo.setForksCount(repoNode.path("forkCount").asInt(0));
+        repo.setHtmlUrl(repoNode.path("url").asText());
+
+        String pushedAtStr = repoNode.path("pushedAt").asText(null);
+        if (pushedAtStr != null) {
+            try {
+                repo.setUpdatedAt(LocalDateTime.parse(pushedAtStr, DateTimeFormatter.ISO_DATE_TIME));
+            } catch (Exception e) {
+                System.err.println("Tarih parsing hatası: " + e.getMessage());
+            }
+        }
+
+        for (String alias : GRAPHQL_README_ALIASES) {
+            String text = repoNode.path(alias).path("text").asText(null);
+            if (text != null && !text.isEmpty()) {
+                repo.setReadmeContent(text);
+                break;
+            }
+        }
+        return repo;
+    }
+
+    public Map<String, Object> getStats() {
+        long count = Math.max(1, fetchCount.get());
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("concurrentFetch", concurrentFetch);
+        stats.put("fetches", fetchCount.get());
+        stats.put("avgMetadataMs", metadataMillis.get() / count);
+        stats.put("avgReadmeMs", readmeMillis.get() / count);
+        stats.put("avgWallMs", wallMillis.get() / count);
+        stats.put("activeFetchThreads", fetchExecutor.getActiveCount());
+        long notModified = notModifiedCount.get();
+        long modified = modifiedCount.get();
+        stats.put("notModified", notModified);
+        stats.put("modified", modified);
+        stats.put("notModifiedRatio", modified == 0 ? 0.0 : (double) notModified / modified);
+        stats.put("graphqlQueries", graphqlQueries.get());
+        stats.put("graphqlRepositories", graphqlRepositories.get());
+        stats.put("restFallbacks", restFallbacks.get());
+        stats.put("rateLimit", rateLimitGovernor.getStats());
+        return stats;
+    }
+
+    // Sadece repo metadata'sını getir (README hariç)
+    public GitHubRepository getRepositoryMetadata(String owner, String repo) {
+        try {
+            String url = GITHUB_REPO_URL.replace("{owner}", owner).replace("{repo}", repo);
+            String body = conditionalGet("repo", owner, repo, url);
+
+            if (body != null) {
+                JsonNode repoNode = objectMapper.readTree(body);
+                return parseRepository(repoNode);
             }
 
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Repository getirme hatası: " + e.getMessage());
         }
@@ -62,7 +352,106 @@ public class GitHubApiService {
         return null;
     }
 
+    // Saklı ETag / Last-Modified ile koşullu GET; 304 gelirse saklı gövde kullanılır
+    private String conditionalGet(String kind, String owner, String repo, String url) {
+        Optional<CachedResponse> stored = cacheService.getValidatedResponse(kind, owner, repo);
 
+        HttpHeaders headers = createHeaders();
+        stored.ifPresent(cached -> {
+            if (cached.getEtag() != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+        });
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response = exchange("core", url, HttpMethod.GET, entity);
+
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && stored.isPresent()) {
+            notModifiedCount.incrementAndGet();
+            return stored.get().getBody();
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            modifiedCount.incrementAndGet();
+            HttpHeaders responseHeaders = response.getHeaders();
+            if (responseHeaders.getETag() != null || responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED) != null) {
+                cacheService.cacheValidatedResponse(kind, owner, repo, new CachedResponse(
+                    responseHeaders.getETag(), responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED), response.getBody()));
+            }
+            return response.getBody();
+        }
+        return null;
+    }
+
+    private ResponseEntity<String> exchange(String resource, String url, HttpMethod method, HttpEntity<String> entity) {
+        return exchange(resource, () -> restTemplate.exchange(url, method, entity, String.class));
+    }
+
+    // Tüm GitHub istekleri buradan geçer: önce kotadan hak alınır, yanıt header'ları kotayı günceller
+    private ResponseEntity<String> exchange(String resource, Supplier<ResponseEntity<String>> call) {
+        rateLimitGovernor.acquire(resource);
+        try {
+            ResponseEntity<String> response = call.get();
+            rateLimitGovernor.update(response.getHeaders());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            rateLimitGovernor.update(e.getResponseHeaders());
+            GitHubRateLimitException rateLimited = rateLimitGovernor.toRateLimitException(
+                e.getStatusCode().value(), e.getResponseHeaders());
+            if (rateLimited != null) {
+                throw rateLimited;
+            }
+            throw e;
+        }
+    }
+
+    // Yıldıza göre sıralı repo araması (page 1'den başlar). Arama API'sinin kotası ayrıdır ("search").
+    // Hata durumunda null; kota hatası çağırana iletilir
+    public List<GitHubRepository> searchRepositories(String language, String query, int page, int perPage) {
+        try {
+            // Kullanıcı sorgusu şablon değişkeni olarak verilir: '&', '#', '{' gibi karakterler de kodlanır
+            URI uri = UriComponentsBuilder.fromUriString(GITHUB_SEARCH_URL)
+                .queryParam("q", "{q}")
+                .queryParam("sort", "stars")
+                .queryParam("order", "desc")
+                .queryParam("per_page", perPage)
+                .queryParam("page", page)
+                .encode()
+                .buildAndExpand(buildSearchQuery(language, query))
+                .toUri();
+            HttpEntity<String> entity = new HttpEntity<>(createHeaders());
+            ResponseEntity<String> response = exchange("search", () -> restTemplate.exchange(uri, HttpMethod.GET, entity, String.class));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                List<GitHubRepository> repositories = new ArrayList<>();
+                for (JsonNode itemNode : objectMapper.readTree(response.getBody()).path("items")) {
+                    repositories.add(parseRepository(itemNode));
+                }
+                return repositories;
+            }
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Repository arama hatası: " + e.getMessage());
+        }
+        return null;
+    }
+
+    // Örn. "web framework language:\"Jupyter Notebook\""
+    static String buildSearchQuery(String language, String query) {
+        StringBuilder q = new StringBuilder(query != null ? query.trim() : "");
+        if (language != null && !language.isBlank()) {
+            String lang = language.trim();
+            if (q.length() > 0) {
+                q.append(' ');
+            }
+            q.append("language:").append(lang.contains(" ") ? "\"" + lang + "\"" : lang);
+        }
+        return q.toString();
+    }
 
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
@@ -102,49 +491,52 @@ public class GitHubApiService {
         return repo;
     }
 
-    private void fetchReadmeContent(GitHubRepository repo) {
+    // README yoksa (404) boş string; zaman aşımı, 5xx gibi geçici hatalarda null
+    public String getReadmeContent(String owner, String repoName) {
+        String fullName = owner + "/" + repoName;
         try {
-            String[] parts = repo.getFullName().split("/");
-            if (parts.length != 2) return;
-
-            String owner = parts[0];
-            String repoName = parts[1];
-
             String url = GITHUB_README_URL.replace("{owner}", owner).replace("{repo}", repoName);
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            String body = conditionalGet("readme", owner, repoName, url);
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode readmeNode = objectMapper.readTree(response.getBody());
-                String content = readmeNode.path("content").asText("");
-                String encoding = readmeNode.path("encoding").asText("base64");
-                
-                if ("base64".equals(encoding) && !content.isEmpty()) {
-                    try {
-                        // Base64 decode - daha güvenli
-                        content = content.replaceAll("\\s+", ""); // Boşlukları temizle
-                        byte[] decodedBytes = java.util.Base64.getDecoder().decode(content);
-                        String readmeContent = new String(decodedBytes, "UTF-8");
-                        repo.setReadmeContent(readmeContent);
-                        System.out.println("README başarıyla alındı: " + repo.getFullName() + " (" + readmeContent.length() + " karakter)");
-                    } catch (Exception decodeException) {
-                        System.err.println("Base64 decode hatası " + repo.getFullName() + ": " + decodeException.getMessage());
-                        // Fallback: raw content'i kullan
-                        repo.setReadmeContent(content);
-                    }
-                } else if (!content.isEmpty()) {
-                    // Base64 değilse direkt kullan
-                    repo.setReadmeContent(content);
-                }
+            if (body != null) {
+                String readmeContent = decodeReadme(fullName, body);
+                return readmeContent != null ? readmeContent : "";
             }
 
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (HttpClientErrorException.NotFound e) {
+            return "";
         } catch (Exception e) {
             // README çekilemezse sessizce devam et
-            System.err.println("README çekme hatası " + repo.getFullName() + ": " + e.getMessage());
+            System.err.println("README çekme hatası " + fullName + ": " + e.getMessage());
         }
+        return null;
+    }
+
+    private String decodeReadme(String fullName, String body) throws Exception {
+        JsonNode readmeNode = objectMapper.readTree(body);
+        String content = readmeNode.path("content").asText("");
+        String encoding = readmeNode.path("encoding").asText("base64");
+        
+        if ("base64".equals(encoding) && !content.isEmpty()) {
+            try {
+                // Base64 decode - daha güvenli
+                content = content.replaceAll("\\s+", ""); // Boşlukları temizle
+                byte[] decodedBytes = java.util.Base64.getDecoder().decode(content);
+                String readmeContent = new String(decodedBytes, "UTF-8");
+                System.out.println("README başarıyla alındı: " + fullName + " (" + readmeContent.length() + " karakter)");
+                return readmeContent;
+            } catch (Exception decodeException) {
+                System.err.println("Base64 decode hatası " + fullName + ": " + decodeException.getMessage());
+                // Fallback: raw content'i kullan
+                return content;
+            }
+        } else if (!content.isEmpty()) {
+            // Base64 değilse direkt kullan
+            return content;
+        }
+        return null;
     }
 
 }
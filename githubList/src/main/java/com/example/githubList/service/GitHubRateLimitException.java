@@ -0,0 +1,23 @@
+package com.example.githubList.service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+// GitHub API kotası bitti ve bekleme süresi izin verilenden uzun: istek gönderilmeden reddedilir
+public class GitHubRateLimitException extends RuntimeException {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final Instant retryAt;
+
+    public GitHubRateLimitException(String resource, Instant retryAt) {
+        super("GitHub API limiti doldu (" + resource + "), yeniden deneme: " + TIME_FORMAT.format(retryAt)
+            + " (" + Math.max(0, retryAt.getEpochSecond() - Instant.now().getEpochSecond()) + " sn)");
+        this.retryAt = retryAt;
+    }
+
+    public Instant getRetryAt() {
+        return retryAt;
+    }
+}
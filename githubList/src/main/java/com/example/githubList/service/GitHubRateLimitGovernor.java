@@ -0,0 +1,249 @@
+package com.example.githubList.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GitHub API kotasını yanıt header'larına göre yöneten token bucket.
+// Her istek öncesi acquire() ile bir hak alınır; X-RateLimit-* ve Retry-After header'ları
+// kalan hakkı, pencere bitişini ve engeli günceller. Kota biterse kısa bekleme kuyrukta,
+// uzun bekleme ise GitHubRateLimitException (yeniden deneme zamanıyla) olur.
+// Arka plan işleri son kısmı (interactive-reserve-percent) kullanıcı isteklerine bırakır.
+@Component
+public class GitHubRateLimitGovernor {
+
+    // Header gelene kadar kullanılan tahmini pencere (GitHub: core ve graphql saatlik, search dakikalık)
+    private static final long WINDOW_MILLIS = 3_600_000;
+    private static final long SEARCH_WINDOW_MILLIS = 60_000;
+    private static final long YIELD_WAIT_MILLIS = 100;
+
+    @Value("${github.api.rate-limit:5000}")
+    private int configuredLimit;
+
+    // Arama API'sinin dakikalık kotası; ilk yanıttan önce saatlik limitle başlanırsa açılışta 403/429 alınır
+    @Value("${github.api.search-rate-limit:30}")
+    private int searchLimit;
+
+    @Value("${github.api.interactive-reserve-percent:10}")
+    private int interactiveReservePercent;
+
+    // Kuyrukta en fazla bu kadar beklenir, daha uzunsa hemen reddedilir
+    @Value("${github.api.interactive-max-wait:5}")
+    private long interactiveMaxWaitSeconds;
+
+    @Value("${github.api.background-max-wait:120}")
+    private long backgroundMaxWaitSeconds;
+
+    // Kaynak bazında kota: core (REST), graphql, search ayrı sayılır
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong waited = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private static class Bucket {
+        int limit;
+        int remaining;
+        final long windowMillis;
+        long resetAtMillis;
+        long blockedUntilMillis;
+        int interactiveWaiting;
+        // resetAtMillis bir yanıt header'ından mı geldi, yoksa tahmin mi
+        boolean windowFromHeaders;
+
+        Bucket(int limit, long windowMillis) {
+            this.limit = limit;
+            this.remaining = limit;
+            this.windowMillis = windowMillis;
+            this.resetAtMillis = System.currentTimeMillis() + windowMillis;
+        }
+    }
+
+    public void acquire(String resource) {
+        RequestPriority priority = RequestPriority.current();
+        Bucket bucket = bucket(resource);
+        long maxWaitMillis = (priority == RequestPriority.INTERACTIVE ? interactiveMaxWaitSeconds : backgroundMaxWaitSeconds) * 1000;
+        boolean queued = false;
+
+        synchronized (bucket) {
+            try {
+                while (true) {
+                    long now = System.currentTimeMillis();
+                    if (now >= bucket.resetAtMillis) {
+                        // Pencere yenilendi (tahmini; ilk yanıt header'ı düzeltir)
+                        bucket.remaining = bucket.limit;
+                        bucket.resetAtMillis = now + bucket.windowMillis;
+                        bucket.windowFromHeaders = false;
+                    }
+
+                    long readyAt;
+                    if (bucket.blockedUntilMillis > now) {
+                        readyAt = bucket.blockedUntilMillis;
+                    } else {
+                        int floor = priority == RequestPriority.BACKGROUND ? reserveOf(bucket) : 0;
+                        boolean yieldToInteractive = priority == RequestPriority.BACKGROUND && bucket.interactiveWaiting > 0;
+                        if (bucket.remaining > floor && !yieldToInteractive) {
+                            bucket.remaining--;
+                            acquired.incrementAndGet();
+                            return;
+                        }
+                        readyAt = yieldToInteractive && bucket.remaining > floor
+                            ? now + YIELD_WAIT_MILLIS : bucket.resetAtMillis;
+                    }
+
+                    if (readyAt - now > maxWaitMillis) {
+                        rejected.incrementAndGet();
+                        throw new GitHubRateLimitException(resource, Instant.ofEpochMilli(readyAt));
+                    }
+                    if (!queued) {
+                        queued = true;
+                        waited.incrementAndGet();
+                        if (priority == RequestPriority.INTERACTIVE) {
+                            bucket.interactiveWaiting++;
+                        }
+                    }
+                    bucket.wait(Math.max(1, readyAt - now));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("GitHub API kotası beklenirken kesildi");
+            } finally {
+                if (queued && priority == RequestPriority.INTERACTIVE) {
+                    bucket.interactiveWaiting--;
+                    bucket.notifyAll();
+                }
+            }
+        }
+    }
+
+    // Her GitHub yanıtından (hata yanıtları dahil) sonra çağrılır
+    public void update(HttpHeaders headers) {
+        if (headers == null) {
+            return;
+        }
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (remaining == null && retryAfter == null) {
+            return;
+        }
+
+        Bucket bucket = bucket(resourceOf(headers));
+        synchronized (bucket) {
+            try {
+                String limit = headers.getFirst("X-RateLimit-Limit");
+                if (limit != null) {
+                    bucket.limit = Integer.parseInt(limit.trim());
+                }
+                String reset = headers.getFirst("X-RateLimit-Reset");
+                long resetAtMillis = reset != null ? Long.parseLong(reset.trim()) * 1000 : bucket.resetAtMillis;
+                if (!bucket.windowFromHeaders || resetAtMillis > bucket.resetAtMillis) {
+                    // Yeni pencere (veya ilk header): GitHub'ın sayısı esas alınır
+                    if (remaining != null) {
+                        bucket.remaining = Integer.parseInt(remaining.trim());
+                    }
+                    if (reset != null) {
+                        bucket.resetAtMillis = resetAtMillis;
+                        bucket.windowFromHeaders = true;
+                    }
+                } else if (remaining != null && resetAtMillis == bucket.resetAtMillis) {
+                    // Aynı pencerede geç gelen eski bir yanıt, uçuştaki isteklerin acquire() ile düştüğü
+                    // hakları geri getirmesin; önceki pencereden kalan yanıtlar yok sayılır
+                    bucket.remaining = Math.min(bucket.remaining, Integer.parseInt(remaining.trim()));
+                }
+                if (retryAfter != null) {
+                    bucket.blockedUntilMillis = System.currentTimeMillis() + Long.parseLong(retryAfter.trim()) * 1000;
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Rate limit header parsing hatası: " + e.getMessage());
+            }
+            bucket.notifyAll();
+        }
+    }
+
+    // 403/429 yanıtı kota kaynaklıysa yeniden deneme zamanıyla exception, değilse null
+    public GitHubRateLimitException toRateLimitException(int statusCode, HttpHeaders headers) {
+        if ((statusCode != 403 && statusCode != 429) || headers == null) {
+            return null;
+        }
+        boolean exhausted = "0".equals(headers.getFirst("X-RateLimit-Remaining"));
+        if (!exhausted && headers.getFirst(HttpHeaders.RETRY_AFTER) == null) {
+            return null;
+        }
+        String resource = resourceOf(headers);
+        Bucket bucket = bucket(resource);
+        synchronized (bucket) {
+            long retryAt = Math.max(bucket.blockedUntilMillis, exhausted ? bucket.resetAtMillis : 0);
+            return new GitHubRateLimitException(resource, Instant.ofEpochMilli(retryAt));
+        }
+    }
+
+    // GraphQL kota aşımını HTTP 200 ile (errors[].type RATE_LIMITED) bildirir: kaynak pencere sonuna kadar kapatılır
+    public GitHubRateLimitException exhausted(String resource) {
+        Bucket bucket = bucket(resource);
+        synchronized (bucket) {
+            long now = System.currentTimeMillis();
+            if (now >= bucket.resetAtMillis) {
+                bucket.resetAtMillis = now + bucket.windowMillis;
+                bucket.windowFromHeaders = false;
+            }
+            bucket.remaining = 0;
+            return new GitHubRateLimitException(resource,
+                Instant.ofEpochMilli(Math.max(bucket.blockedUntilMillis, bucket.resetAtMillis)));
+        }
+    }
+
+    // Kaynağın kalan kotası (yüzde); engelliyse 0, pencere yenilenmişse 100
+    public int remainingPercent(String resource) {
+        Bucket bucket = bucket(resource);
+        synchronized (bucket) {
+            long now = System.currentTimeMillis();
+            if (bucket.blockedUntilMillis > now) {
+                return 0;
+            }
+            if (now >= bucket.resetAtMillis) {
+                return 100;
+            }
+            return bucket.limit <= 0 ? 0 : bucket.remaining * 100 / bucket.limit;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        buckets.forEach((resource, bucket) -> {
+            Map<String, Object> gauge = new LinkedHashMap<>();
+            synchronized (bucket) {
+                gauge.put("limit", bucket.limit);
+                gauge.put("remaining", bucket.remaining);
+                gauge.put("resetInSeconds", Math.max(0, (bucket.resetAtMillis - now) / 1000));
+                gauge.put("blockedForSeconds", Math.max(0, (bucket.blockedUntilMillis - now) / 1000));
+                gauge.put("interactiveWaiting", bucket.interactiveWaiting);
+            }
+            stats.put(resource, gauge);
+        });
+        stats.put("acquired", acquired.get());
+        stats.put("waited", waited.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    private Bucket bucket(String resource) {
+        return buckets.computeIfAbsent(resource, key -> "search".equals(key)
+            ? new Bucket(searchLimit, SEARCH_WINDOW_MILLIS) : new Bucket(configuredLimit, WINDOW_MILLIS));
+    }
+
+    private int reserveOf(Bucket bucket) {
+        return bucket.limit * interactiveReservePercent / 100;
+    }
+
+    private static String resourceOf(HttpHeaders headers) {
+        String resource = headers.getFirst("X-RateLimit-Resource");
+        return resource != null ? resource : "core";
+    }
+}
@@ -2,29 +2,47 @@ package com.example.githubList.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class GroqAIService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final GroqRequestScheduler requestScheduler;
 
     @Value("${groq.api.key:}")
     private String groqApiKey;
 
-    private static final String GROQ_API_URL = "https://api.groq.com/openai/v1/chat/completions";
+    @Value("${groq.api.url:https://api.groq.com/openai/v1/chat/completions}")
+    private String groqApiUrl;
+
     private static final String MODEL = "llama3-70b-8192"; // Hızlı ve güçlü model
+    private static final int MAX_TOKENS = 2000;
+
+    // Prompt şablonu veya puanlama kuralları değiştiğinde artırılmalı: eski analizler
+    // parmak izleri tutmadığı için bir sonraki istekte yeniden üretilir (bkz. AnalysisFingerprint)
+    public static final int PROMPT_VERSION = 1;
 
-    public GroqAIService() {
-        this.restTemplate = new RestTemplate();
+    // Paylaşılan, havuzlu HTTP istemcisi (bkz. HttpClientConfig)
+    @Autowired
+    public GroqAIService(RestTemplate outboundRestTemplate, GroqRequestScheduler requestScheduler) {
+        this.restTemplate = outboundRestTemplate;
         this.objectMapper = new ObjectMapper();
+        this.requestScheduler = requestScheduler;
     }
 
     public String analyzeRepository(String repoName, String description, String language, 
@@ -39,7 +57,7 @@ public class GroqAIService {
             
             // Groq API çağrısı
             System.out.println("Groq API çağrısı yapılıyor...");
-            String response = callGroqAPI(prompt);
+            String response = callGroqAPI(prompt, false);
             System.out.println("Groq API yanıtı alındı, uzunluk: " + response.length());
             // Debug logları kaldırıldı
             
@@ -52,10 +70,50 @@ public class GroqAIService {
         }
     }
 
-    private String buildAnalysisPrompt(String repoName, String description, String language, 
-                                     Integer stars, Integer forks, String lastUpdate, String readmeContent) {
-        
-        StringBuilder prompt = new StringBuilder();
+    // Streaming mod: Groq'tan gelen her metin parçası onDelta'ya iletilir, tam yanıt döndürülür
+    public String streamAnalysis(String repoName, String description, String language,
+                                 Integer stars, Integer forks, String lastUpdate, String readmeContent,
+                                 Consumer<String> onDelta) {
+        try {
+            System.out.println("Groq AI streaming analizi başlatılıyor: " + repoName);
+            String prompt = buildAnalysisPrompt(repoName, description, language, stars, forks, lastUpdate, readmeContent);
+            String response = callGroqAPIStreaming(prompt, onDelta);
+            System.out.println("Groq API stream tamamlandı, uzunluk: " + response.length());
+            return response;
+        } catch (Exception e) {
+            System.err.println("Groq AI streaming hatası: " + e.getMessage());
+            throw new RuntimeException("Groq AI analiz hatası: " + e.getMessage());
+        }
+    }
+
+    // JSON modu: yanıt response_format ile tek bir JSON nesnesi olarak istenir (bkz. AnalysisJsonDecoder)
+    public String analyzeRepositoryStructured(String repoName, String description, String language,
+                                              Integer stars, Integer forks, String lastUpdate, String readmeContent) {
+        try {
+            System.out.println("Groq AI JSON analizi başlatılıyor: " + repoName);
+            StringBuilder prompt = new StringBuilder();
+            appendRepositoryContext(prompt, repoName, description, language, stars, forks, lastUpdate, readmeContent);
+            prompt.append("ÇIKTI FORMATI (JSON - Sadece Türkçe):\n");
+            prompt.append("ZORUNLU: Yanıtın SADECE aşağıdaki alanlara sahip tek bir JSON nesnesi olsun, başka metin yazma! Tüm metinler Türkçe olmalı!\n");
+            appendScoringRules(prompt);
+            prompt.append("- Metin alanlarında markdown kullanabilirsin\n\n");
+            prompt.append(AnalysisJsonDecoder.SCHEMA_DESCRIPTION).append("\n\n");
+            prompt.append("Analiz tarihi: ").append(java.time.LocalDate.now());
+
+            String response = callGroqAPI(prompt.toString(), true);
+            System.out.println("Groq API JSON yanıtı alındı, uzunluk: " + response.length());
+            return response;
+        } catch (HttpClientErrorException.BadRequest e) {
+            // json_validate_failed: model geçerli JSON üretemedi
+            throw new IllegalArgumentException("Groq JSON yanıtı üretemedi: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Groq AI JSON analiz hatası: " + e.getMessage());
+            throw new RuntimeException("Groq AI analiz hatası: " + e.getMessage());
+        }
+    }
+
+    private void appendRepositoryContext(StringBuilder prompt, String repoName, String description, String language,
+                                         Integer stars, Integer forks, String lastUpdate, String readmeContent) {
         prompt.append("Sen bir yazılım geliştirici ve teknoloji uzmanısın. Bu GitHub repository'sini detaylı analiz et:\n\n");
         
         prompt.append("REPOSITORY BİLGİLERİ:\n");
@@ -67,7 +125,7 @@ public class GroqAIService {
         prompt.append("- Son Güncelleme: ").append(lastUpdate != null ? lastUpdate : "Bilinmiyor").append("\n");
         
         if (readmeContent != null && !readmeContent.trim().isEmpty()) {
-            prompt.append("\nREADME İÇERİĞİ (Tam içerik - DİKKATLİCE OKU!):\n");
+            prompt.append("\nREADME İÇERİĞİ (Başlıklar ve ana bölümler - DİKKATLİCE OKU!):\n");
             prompt.append(readmeContent).append("\n");
         }
         
@@ -99,14 +157,26 @@ public class GroqAIService {
         prompt.append("- Son commit tarihine göre aktiflik (1-7 gün: 90-100, 8-30 gün: 70-89, 31-90 gün: 50-69, 90+ gün: 30-49)\n");
         prompt.append("- Düzenli güncelleme sıklığı\n");
         prompt.append("- Aktif geliştirme durumu ve gelecek potansiyeli\n\n");
-        
-        prompt.append("ÇIKTI FORMATI (Markdown - Sadece Türkçe):\n");
-        prompt.append("ZORUNLU: Yanıtını markdown formatında ver ve SADECE TÜRKÇE kullan! İngilizce kelime yazma! Tüm açıklamalar, yorumlar ve değerlendirmeler Türkçe olmalı!\n");
+    }
+
+    private void appendScoringRules(StringBuilder prompt) {
         prompt.append("PUANLAMA KURALLARI:\n");
         prompt.append("- GÜNCELLİK: 8 gün içindeyse 80+ puan, 30 gün içindeyse 60+ puan ver\n");
         prompt.append("- ÖĞRENME DEĞERİ: README'de kurulum rehberi, ekran görüntüleri, API dokümantasyonu, teknik detaylar, kullanım örnekleri varsa 80+ puan ver\n");
         prompt.append("- ÖĞRENME DEĞERİ: 70+ puan verdiysen 'yüksek' veya 'iyi' kullan, 30- puan verdiysen 'düşük' kullan\n");
-        prompt.append("- İYİLEŞTİRME ÖNERİLERİ: Kesinlikle diğer bölümlerden kopya olmasın, her biri bu projeye özel olsun\n\n");
+        prompt.append("- İYİLEŞTİRME ÖNERİLERİ: Kesinlikle diğer bölümlerden kopya olmasın, her biri bu projeye özel olsun\n");
+    }
+
+    private String buildAnalysisPrompt(String repoName, String description, String language, 
+                                     Integer stars, Integer forks, String lastUpdate, String readmeContent) {
+        
+        StringBuilder prompt = new StringBuilder();
+        appendRepositoryContext(prompt, repoName, description, language, stars, forks, lastUpdate, readmeContent);
+
+        prompt.append("ÇIKTI FORMATI (Markdown - Sadece Türkçe):\n");
+        prompt.append("ZORUNLU: Yanıtını markdown formatında ver ve SADECE TÜRKÇE kullan! İngilizce kelime yazma! Tüm açıklamalar, yorumlar ve değerlendirmeler Türkçe olmalı!\n");
+        appendScoringRules(prompt);
+        prompt.append("\n");
         prompt.append("# Repository Analizi\n\n");
         prompt.append("## 💡 Genel Öneri ve Değerlendirme\n");
         prompt.append("[ZORUNLU: Bu bölümde README ve about kısmını DİKKATLİCE oku ve KENDİ YORUMUNU yap! Puanlama tablosundaki ifadeleri ASLA kopyalama! README'de gördüğün özellikleri, teknolojileri, proje amacını analiz et ve gerçek bir değerlendirme yaz. Örneğin: 'README'de gördüğüm kadarıyla bu proje...', 'About kısmında belirtilen...', 'Proje yapısına baktığımda...' gibi ifadeler kullan. En az 3-4 paragraf yaz ve her açıdan değerlendir. Eğer kopya yaparsan yanıtı geçersiz sayılacak!]\n\n");
@@ -167,52 +237,116 @@ public class GroqAIService {
         return prompt.toString();
     }
 
-    private String callGroqAPI(String prompt) throws Exception {
+    private String callGroqAPI(String prompt, boolean jsonMode) throws Exception {
         System.out.println("Groq API anahtarı kontrol ediliyor...");
+        checkApiKey();
+
+        // Request entity
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildRequestBody(prompt, false, jsonMode), createHeaders());
+        int estimatedTokens = GroqRequestScheduler.estimateTokens(prompt, MAX_TOKENS);
+
+        // API çağrısı - TPM/RPM kotasına göre sıraya alınır
+        return requestScheduler.execute(estimatedTokens, () -> {
+            ResponseEntity<String> response = restTemplate.exchange(
+                groqApiUrl,
+                HttpMethod.POST,
+                entity,
+                String.class
+            );
+
+            if (response.getStatusCode().is2xxSuccessful()) {
+                JsonNode rootNode = objectMapper.readTree(response.getBody());
+                requestScheduler.recordUsage(estimatedTokens, rootNode.path("usage").path("total_tokens").asInt(0));
+                JsonNode choices = rootNode.get("choices");
+                if (choices.isArray() && choices.size() > 0) {
+                    JsonNode firstChoice = choices.get(0);
+                    JsonNode messageNode = firstChoice.get("message");
+                    return messageNode.get("content").asText();
+                }
+            }
+
+            throw new Exception("Groq API yanıtı başarısız: " + response.getStatusCode());
+        });
+    }
+
+    // "stream": true ile SSE yanıtını okur: her "data:" satırı bir delta, "[DONE]" ile biter
+    private String callGroqAPIStreaming(String prompt, Consumer<String> onDelta) throws Exception {
+        checkApiKey();
+        Map<String, Object> requestBody = buildRequestBody(prompt, true, false);
+        HttpHeaders headers = createHeaders();
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        int estimatedTokens = GroqRequestScheduler.estimateTokens(prompt, MAX_TOKENS);
+
+        // 429 yanıtı gövde okunmadan hata olarak döner, yani henüz delta iletilmemişken yeniden denenir
+        return requestScheduler.execute(estimatedTokens, () -> restTemplate.execute(groqApiUrl, HttpMethod.POST,
+            request -> {
+                request.getHeaders().putAll(headers);
+                objectMapper.writeValue(request.getBody(), requestBody);
+            },
+            response -> {
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new IllegalStateException("Groq API yanıtı başarısız: " + response.getStatusCode());
+                }
+                StringBuilder fullResponse = new StringBuilder();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if ("[DONE]".equals(data)) {
+                        break;
+                    }
+                    JsonNode chunk = objectMapper.readTree(data);
+                    // Groq kullanım bilgisini son parçada x_groq.usage olarak gönderir
+                    JsonNode usage = chunk.path("x_groq").path("usage").path("total_tokens");
+                    if (usage.isInt()) {
+                        requestScheduler.recordUsage(estimatedTokens, usage.asInt());
+                    }
+                    JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+                    if (content.isTextual() && !content.asText().isEmpty()) {
+                        fullResponse.append(content.asText());
+                        onDelta.accept(content.asText());
+                    }
+                }
+                return fullResponse.toString();
+            }));
+    }
+
+    private void checkApiKey() throws Exception {
         if (groqApiKey == null || groqApiKey.trim().isEmpty()) {
             System.err.println("Groq API anahtarı bulunamadı!");
             throw new Exception("Groq API anahtarı bulunamadı");
         }
-        System.out.println("Groq API anahtarı mevcut, uzunluk: " + groqApiKey.length());
+    }
 
+    private Map<String, Object> buildRequestBody(String prompt, boolean stream, boolean jsonMode) {
         // Request body oluştur
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", MODEL);
         requestBody.put("temperature", 0.3); // Tutarlı sonuçlar için düşük temperature
-        requestBody.put("max_tokens", 2000);
+        requestBody.put("max_tokens", MAX_TOKENS);
+        if (stream) {
+            requestBody.put("stream", true);
+        }
+        if (jsonMode) {
+            // Groq yanıtın geçerli bir JSON nesnesi olmasını garanti eder
+            requestBody.put("response_format", Map.of("type", "json_object"));
+        }
         
         Map<String, String> message = new HashMap<>();
         message.put("role", "user");
         message.put("content", prompt);
         requestBody.put("messages", new Object[]{message});
+        return requestBody;
+    }
 
-        // Headers
+    private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.set("Authorization", "Bearer " + groqApiKey);
-
-        // Request entity
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        // API çağrısı
-        ResponseEntity<String> response = restTemplate.exchange(
-            GROQ_API_URL, 
-            HttpMethod.POST, 
-            entity, 
-            String.class
-        );
-
-        if (response.getStatusCode().is2xxSuccessful()) {
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
-            JsonNode choices = rootNode.get("choices");
-            if (choices.isArray() && choices.size() > 0) {
-                JsonNode firstChoice = choices.get(0);
-                JsonNode messageNode = firstChoice.get("message");
-                return messageNode.get("content").asText();
-            }
-        }
-
-        throw new Exception("Groq API yanıtı başarısız: " + response.getStatusCode());
+        return headers;
     }
 
     public boolean isApiKeyConfigured() {
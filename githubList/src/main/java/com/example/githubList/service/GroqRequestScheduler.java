@@ -0,0 +1,232 @@
+package com.example.githubList.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Groq dakikalık istek (RPM) ve token (TPM) limitleri için kayan pencereli kabul kontrolü.
+// Her çağrı tahmini token miktarıyla kabul edilir, yanıttaki gerçek kullanım ile düzeltilir.
+// Kuyruklar önceliğe göre ayrıdır: bekleyen kullanıcı isteği varken toplu işler kabul edilmez
+// ve TPM'in son kısmı (interactive-reserve-percent) kullanıcı isteklerine ayrılır.
+// 429 yanıtında retry-after kadar beklenip max-retries kez yeniden denenir.
+@Component
+public class GroqRequestScheduler {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final long YIELD_WAIT_MILLIS = 100;
+
+    @Value("${groq.api.requests-per-minute:30}")
+    private int requestsPerMinute;
+
+    @Value("${groq.api.tokens-per-minute:6000}")
+    private int tokensPerMinute;
+
+    @Value("${groq.api.interactive-reserve-percent:20}")
+    private int interactiveReservePercent;
+
+    @Value("${groq.api.interactive-max-wait:30}")
+    private long interactiveMaxWaitSeconds;
+
+    @Value("${groq.api.background-max-wait:300}")
+    private long backgroundMaxWaitSeconds;
+
+    @Value("${groq.api.max-retries:3}")
+    private int maxRetries;
+
+    // Son bir dakikadaki kayıtlar: {zaman, token, istek sayısı}; kullanım düzeltmeleri istek sayılmaz
+    private final ArrayDeque<long[]> window = new ArrayDeque<>();
+    private long windowTokens;
+    private long blockedUntilMillis;
+    private int interactiveWaiting;
+
+    private final Map<RequestPriority, LaneStats> lanes = new EnumMap<>(RequestPriority.class);
+    private final AtomicLong throttledResponses = new AtomicLong();
+
+    private static class LaneStats {
+        final AtomicLong admitted = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong totalWaitMillis = new AtomicLong();
+        final AtomicLong maxWaitMillis = new AtomicLong();
+        volatile int waiting;
+    }
+
+    public GroqRequestScheduler() {
+        for (RequestPriority priority : RequestPriority.values()) {
+            lanes.put(priority, new LaneStats());
+        }
+    }
+
+    // Çağrıyı kabul edildiğinde çalıştırır; 429 gelirse retry-after sonrası yeniden kuyruğa girer
+    public <T> T execute(int estimatedTokens, Callable<T> call) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            admit(estimatedTokens);
+            try {
+                return call.call();
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value() || attempt >= maxRetries) {
+                    throw e;
+                }
+                throttledResponses.incrementAndGet();
+                long retryAfterMillis = retryAfterMillis(e.getResponseHeaders() != null
+                    ? e.getResponseHeaders().getFirst("retry-after") : null, attempt);
+                System.out.println("Groq 429, " + retryAfterMillis + " ms sonra yeniden denenecek");
+                blockFor(retryAfterMillis);
+            }
+        }
+    }
+
+    // Yanıttaki gerçek token kullanımı ile tahmini düzelt
+    public synchronized void recordUsage(int estimatedTokens, int actualTokens) {
+        if (actualTokens <= 0) {
+            return;
+        }
+        window.addLast(new long[]{System.currentTimeMillis(), actualTokens - estimatedTokens, 0});
+        windowTokens += actualTokens - estimatedTokens;
+        notifyAll();
+    }
+
+    // Prompt ~4 karakter/token, üstüne beklenen yanıt uzunluğu
+    public static int estimateTokens(String prompt, int completionTokens) {
+        return prompt.length() / 4 + completionTokens;
+    }
+
+    private void admit(int estimatedTokens) throws InterruptedException {
+        RequestPriority priority = RequestPriority.current();
+        LaneStats lane = lanes.get(priority);
+        long maxWaitMillis = (priority == RequestPriority.INTERACTIVE ? interactiveMaxWaitSeconds : backgroundMaxWaitSeconds) * 1000;
+        long queuedAt = System.currentTimeMillis();
+        boolean queued = false;
+
+        synchronized (this) {
+            try {
+                while (true) {
+                    long now = System.currentTimeMillis();
+                    expire(now);
+
+                    long tokenBudget = priority == RequestPriority.BACKGROUND
+                        ? (long) tokensPerMinute * (100 - interactiveReservePercent) / 100 : tokensPerMinute;
+                    boolean yieldToInteractive = priority == RequestPriority.BACKGROUND && interactiveWaiting > 0;
+                    // Pencere boşsa tek başına büyük bir istek de kabul edilir
+                    boolean fits = windowRequests() < requestsPerMinute
+                        && (windowTokens + estimatedTokens <= tokenBudget || window.isEmpty());
+
+                    if (now >= blockedUntilMillis && fits && !yieldToInteractive) {
+                        window.addLast(new long[]{now, estimatedTokens, 1});
+                        windowTokens += estimatedTokens;
+                        recordWait(lane, now - queuedAt);
+                        return;
+                    }
+
+                    // Kapasite yoksa pencerenin en eski kaydı düşünce yeniden bakılır
+                    long capacityAt = fits || window.isEmpty() ? now : window.peekFirst()[0] + WINDOW_MILLIS;
+                    long readyAt = Math.max(blockedUntilMillis, capacityAt);
+                    if (yieldToInteractive) {
+                        readyAt = Math.max(readyAt, now + YIELD_WAIT_MILLIS);
+                    }
+                    if (readyAt - queuedAt > maxWaitMillis) {
+                        lane.rejected.incrementAndGet();
+                        throw new IllegalStateException("Groq API kapasitesi dolu, yaklaşık "
+                            + Math.max(1, (readyAt - now) / 1000) + " sn sonra tekrar deneyin");
+                    }
+                    if (!queued) {
+                        queued = true;
+                        lane.waiting++;
+                        if (priority == RequestPriority.INTERACTIVE) {
+                            interactiveWaiting++;
+                        }
+                    }
+                    wait(Math.max(1, readyAt - now));
+                }
+            } finally {
+                if (queued) {
+                    lane.waiting--;
+                    if (priority == RequestPriority.INTERACTIVE) {
+                        interactiveWaiting--;
+                    }
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private synchronized void blockFor(long millis) {
+        blockedUntilMillis = Math.max(blockedUntilMillis, System.currentTimeMillis() + millis);
+    }
+
+    private void expire(long now) {
+        while (!window.isEmpty() && window.peekFirst()[0] + WINDOW_MILLIS <= now) {
+            windowTokens -= window.pollFirst()[1];
+        }
+    }
+
+    private int windowRequests() {
+        int count = 0;
+        for (long[] entry : window) {
+            count += (int) entry[2];
+        }
+        return count;
+    }
+
+    private static void recordWait(LaneStats lane, long waitMillis) {
+        lane.admitted.incrementAndGet();
+        lane.totalWaitMillis.addAndGet(waitMillis);
+        lane.maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    }
+
+    // retry-after saniye cinsinden (ondalıklı olabilir); yoksa üstel bekleme
+    private static long retryAfterMillis(String retryAfter, int attempt) {
+        if (retryAfter != null) {
+            try {
+                return (long) (Double.parseDouble(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException ignored) {
+                // Tarih formatı desteklenmiyor, üstel beklemeye düş
+            }
+        }
+        return 1000L << Math.min(attempt, 5);
+    }
+
+    // Son bir dakikanın istek ve token kullanımından büyük olanı (yüzde); 429 sonrası veya
+    // bekleyen kullanıcı isteği varsa kapasite dolu sayılır
+    public synchronized int utilizationPercent() {
+        long now = System.currentTimeMillis();
+        expire(now);
+        if (blockedUntilMillis > now || interactiveWaiting > 0) {
+            return 100;
+        }
+        long requests = requestsPerMinute <= 0 ? 100 : windowRequests() * 100L / requestsPerMinute;
+        long tokens = tokensPerMinute <= 0 ? 100 : windowTokens * 100 / tokensPerMinute;
+        return (int) Math.min(100, Math.max(requests, tokens));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            expire(System.currentTimeMillis());
+            stats.put("requestsInWindow", windowRequests());
+            stats.put("requestsPerMinute", requestsPerMinute);
+            stats.put("tokensInWindow", windowTokens);
+            stats.put("tokensPerMinute", tokensPerMinute);
+            stats.put("blockedForMs", Math.max(0, blockedUntilMillis - System.currentTimeMillis()));
+        }
+        stats.put("throttledResponses", throttledResponses.get());
+        lanes.forEach((priority, lane) -> {
+            Map<String, Object> laneStats = new LinkedHashMap<>();
+            long admitted = lane.admitted.get();
+            laneStats.put("admitted", admitted);
+            laneStats.put("rejected", lane.rejected.get());
+            laneStats.put("waiting", lane.waiting);
+            laneStats.put("avgWaitMs", admitted == 0 ? 0 : lane.totalWaitMillis.get() / admitted);
+            laneStats.put("maxWaitMs", lane.maxWaitMillis.get());
+            stats.put(priority.name().toLowerCase(), laneStats);
+        });
+        return stats;
+    }
+}
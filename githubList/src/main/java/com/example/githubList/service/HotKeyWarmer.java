@@ -0,0 +1,157 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// En sık istenen repoların cache kayıtlarını süreleri dolmadan arka planda yeniler.
+// Yoğun saatlerde yalnızca hard TTL'i (Redis'ten düşmesi) yaklaşan veya hiç olmayan kayıtlar ısıtılır;
+// soft TTL'i geçenler zaten eski haliyle sunulup yenileniyor. Yoğun olmayan saatlerde soft TTL'i
+// yaklaşanlar da yenilenir. GitHub kotası veya Groq kapasitesi sınırdaysa tur erken biter.
+@Component
+public class HotKeyWarmer {
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private RepositoryAnalysisService analysisService;
+
+    @Autowired
+    private GitHubRateLimitGovernor rateLimitGovernor;
+
+    @Autowired
+    private GroqRequestScheduler groqRequestScheduler;
+
+    @Value("${app.warmer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmer.top-n:200}")
+    private int topN;
+
+    // Tur başına en fazla bu kadar repo yenileme kuyruğuna verilir
+    @Value("${app.warmer.max-per-run:20}")
+    private int maxPerRun;
+
+    // Süresinin dolmasına bu kadar (sn) kalan kayıtlar yenilenir; tur aralığından uzun olmalı
+    @Value("${app.warmer.lead-seconds:900}")
+    private long leadSeconds;
+
+    // [başlangıç, bitiş) saat aralığı; başlangıç > bitiş ise gece yarısını aşar (ör. 22-6)
+    @Value("${app.warmer.off-peak-start-hour:1}")
+    private int offPeakStartHour;
+
+    @Value("${app.warmer.off-peak-end-hour:7}")
+    private int offPeakEndHour;
+
+    // Boşsa sunucunun saat dilimi
+    @Value("${app.warmer.zone:}")
+    private String zone;
+
+    @Value("${app.warmer.min-github-remaining-percent:30}")
+    private int minGithubRemainingPercent;
+
+    @Value("${app.warmer.max-groq-utilization-percent:50}")
+    private int maxGroqUtilizationPercent;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong metadataWarms = new AtomicLong();
+    private final AtomicLong analysisWarms = new AtomicLong();
+    private final AtomicLong budgetStops = new AtomicLong();
+    private volatile long lastRunMillis;
+
+    @Scheduled(fixedDelayString = "${app.warmer.interval-ms:300000}",
+               initialDelayString = "${app.warmer.initial-delay-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        runs.incrementAndGet();
+        lastRunMillis = System.currentTimeMillis();
+        ZoneId zoneId = zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        boolean offPeak = isOffPeak(LocalTime.now(zoneId).getHour(), offPeakStartHour, offPeakEndHour);
+
+        List<String> hotRepos = cacheService.getHotRepos(topN);
+        int started = 0;
+        for (String repoId : hotRepos) {
+            if (started >= maxPerRun) {
+                break;
+            }
+            String[] ownerRepo = repoId.split("/", 2);
+            if (ownerRepo.length != 2) {
+                continue;
+            }
+
+            long metadataTtl = cacheService.getRepositoryTtl(ownerRepo[0], ownerRepo[1]);
+            // -1: süresiz kayıt, -2: kayıt yok
+            boolean metadata = metadataTtl != -1 && metadataTtl < leadSeconds;
+            Optional<RepositoryAnalysis> cached = cacheService.getCachedScores(
+                RepositoryAnalysisService.analysisCacheKey(ownerRepo[0], ownerRepo[1]));
+            boolean analysis = cached.isEmpty()
+                || cacheService.secondsUntilExpiry(cached.get()) < leadSeconds
+                || offPeak && cacheService.secondsUntilStale(cached.get()) < leadSeconds;
+            if (!metadata && !analysis) {
+                continue;
+            }
+
+            if (!withinBudget(analysis)) {
+                budgetStops.incrementAndGet();
+                System.out.println("Cache ısıtma kota sınırında durdu, " + started + " repo yenilendi");
+                break;
+            }
+            if (analysisService.warm(ownerRepo[0], ownerRepo[1], metadata, analysis)) {
+                started++;
+                if (metadata) {
+                    metadataWarms.incrementAndGet();
+                }
+                if (analysis) {
+                    analysisWarms.incrementAndGet();
+                }
+            }
+        }
+        if (started > 0) {
+            System.out.println("Cache ısıtma: " + started + " popüler repo yenileniyor" + (offPeak ? " (yoğun olmayan saat)" : ""));
+        }
+    }
+
+    // Analiz yenilemesi fingerprint değişmediyse Groq'a gitmez, ama değiştiyse gideceği için Groq da kontrol edilir
+    private boolean withinBudget(boolean needsAnalysis) {
+        if (rateLimitGovernor.remainingPercent("core") < minGithubRemainingPercent) {
+            return false;
+        }
+        return !needsAnalysis || groqRequestScheduler.utilizationPercent() <= maxGroqUtilizationPercent;
+    }
+
+    static boolean isOffPeak(int hour, int startHour, int endHour) {
+        if (startHour == endHour) {
+            return false;
+        }
+        if (startHour < endHour) {
+            return hour >= startHour && hour < endHour;
+        }
+        return hour >= startHour || hour < endHour;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("runs", runs.get());
+        stats.put("metadataWarms", metadataWarms.get());
+        stats.put("analysisWarms", analysisWarms.get());
+        stats.put("budgetStops", budgetStops.get());
+        stats.put("lastRunMillis", lastRunMillis);
+        stats.put("topN", topN);
+        stats.put("leadSeconds", leadSeconds);
+        return stats;
+    }
+}
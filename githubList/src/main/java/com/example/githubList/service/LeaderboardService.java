@@ -0,0 +1,249 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Dil ve puan boyutu başına Redis sorted set'leri: her analiz yazımında ZADD ile güncellenir,
+// sıralama ZREVRANGE ile okunur. Set'lerin TTL'i yoktur; analiz cache'den düşse de puan kalır.
+// clear-cache sıralamalara dokunmaz; Redis verisi kaybolursa açılışta ve periyodik kontrolde (istek yolunun dışında)
+// PostgreSQL'deki analizlerden yeniden kurulur.
+@Service
+public class LeaderboardService {
+
+    private static final String PREFIX = "github:leaderboard:";
+    // repoId -> {repository, language, languageKey, puanlar}
+    private static final String ENTRIES = PREFIX + "entries";
+    // Yeniden kurulum tamamlandı işareti (kurulan repo sayısı); depo boşken bile yazılır ki her kontrol DB'ye gitmesin
+    private static final String BUILT_MARKER = PREFIX + "built";
+    private static final String REBUILD_LOCK = PREFIX + "rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    public static final String ALL_LANGUAGES = "all";
+    public static final String COMPOSITE = "composite";
+    public static final List<String> DIMENSIONS = List.of(
+        COMPOSITE, "technologyQuality", "learningValue", "careerGrowth", "communityActivity", "recency");
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private AnalysisStore analysisStore;
+
+    // Bileşik puan ağırlıkları: teknoloji, öğrenme, kariyer, topluluk, güncellik
+    @Value("${app.leaderboard.composite-weights:25,25,20,15,15}")
+    private int[] compositeWeights;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong updateFailures = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong rebuiltEntries = new AtomicLong();
+
+    public LeaderboardService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void record(String repoId, GitHubRepository repository, RepositoryAnalysis analysis) {
+        try {
+            String languageKey = languageKey(repository.getLanguage());
+            Object previous = redisTemplate.opsForHash().get(ENTRIES, repoId);
+            String previousLanguageKey = previous instanceof Map ? (String) ((Map<String, Object>) previous).get("languageKey") : null;
+            Map<String, Object> entry = entry(repository, languageKey, analysis);
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (String dimension : DIMENSIONS) {
+                        double score = score(analysis, dimension);
+                        // Dili değişen repo eski dilin sıralamasından çıkar
+                        if (previousLanguageKey != null && !previousLanguageKey.equals(languageKey)) {
+                            ops.opsForZSet().remove(key(previousLanguageKey, dimension), repoId);
+                        }
+                        ops.opsForZSet().add(key(ALL_LANGUAGES, dimension), repoId, score);
+                        ops.opsForZSet().add(key(languageKey, dimension), repoId, score);
+                    }
+                    ops.opsForHash().put(ENTRIES, repoId, entry);
+                    return null;
+                }
+            });
+            updates.incrementAndGet();
+        } catch (Exception e) {
+            updateFailures.incrementAndGet();
+            System.err.println("Leaderboard güncelleme hatası " + repoId + ": " + e.getMessage());
+        }
+    }
+
+    // page 0'dan başlar; language null ise tüm diller
+    public Map<String, Object> top(String language, String dimension, int page, int size) {
+        String languageKey = language == null || language.isBlank() ? ALL_LANGUAGES : languageKey(language);
+        String key = key(languageKey, dimension);
+
+        long start = (long) page * size;
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+            redisTemplate.opsForZSet().reverseRangeWithScores(key, start, start + size - 1);
+        Long total = redisTemplate.opsForZSet().zCard(key);
+
+        List<Object> repoIds = new ArrayList<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> repoIds.add(tuple.getValue()));
+        }
+        List<Object> entries = repoIds.isEmpty() ? List.of() : redisTemplate.opsForHash().multiGet(ENTRIES, repoIds);
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        int i = 0;
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("rank", start + i + 1);
+                item.put("repoId", tuple.getValue());
+                item.put("score", tuple.getScore());
+                if (entries.get(i) instanceof Map) {
+                    ((Map<?, ?>) entries.get(i)).forEach((field, value) -> {
+                        if (!"languageKey".equals(field)) {
+                            item.put(field.toString(), value);
+                        }
+                    });
+                }
+                items.add(item);
+                i++;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("language", languageKey);
+        result.put("dimension", dimension);
+        result.put("page", page);
+        result.put("size", size);
+        result.put("total", total != null ? total : 0);
+        // Bu düğümde yeniden kurulum sürüyorsa sıralama henüz eksik olabilir
+        result.put("rebuilding", rebuilding.get());
+        result.put("items", items);
+        return result;
+    }
+
+    // Sıralama hiç kurulmadıysa (ilk kurulum veya Redis verisinin kaybı) kalıcı depodaki analizlerden AI çağrısı
+    // olmadan kurulur. Açılışta ve sonra periyodik çalışır; işaret varken tek bir Redis okuması yapar.
+    // Kilit sayesinde replikalardan yalnızca biri kurar
+    @Scheduled(fixedDelayString = "${app.leaderboard.rebuild-check-interval-ms:60000}")
+    public void rebuildIfMissing() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_MARKER))) {
+                return;
+            }
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK, nodeId, REBUILD_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            rebuilding.set(true);
+            try {
+                int count = rebuild();
+                redisTemplate.opsForValue().set(BUILT_MARKER, count);
+                rebuilds.incrementAndGet();
+                rebuiltEntries.addAndGet(count);
+                System.out.println("Leaderboard kalıcı depodan yeniden kuruldu: " + count + " repo");
+            } finally {
+                rebuilding.set(false);
+                redisTemplate.delete(REBUILD_LOCK);
+            }
+        } catch (Exception e) {
+            System.err.println("Leaderboard yeniden kurma hatası: " + e.getMessage());
+        }
+    }
+
+    private int rebuild() {
+        int count = 0;
+        for (int page = 0; ; page++) {
+            List<AnalysisStore.StoredScores> scores = analysisStore.findScores(page, REBUILD_PAGE_SIZE);
+            for (AnalysisStore.StoredScores stored : scores) {
+                record(stored.repoId(), stored.repository(), stored.scores());
+            }
+            count += scores.size();
+            if (scores.size() < REBUILD_PAGE_SIZE) {
+                return count;
+            }
+        }
+    }
+
+    public static boolean isValidDimension(String dimension) {
+        return DIMENSIONS.contains(dimension);
+    }
+
+    private static Map<String, Object> entry(GitHubRepository repository, String languageKey, RepositoryAnalysis analysis) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("repository", repository.getFullName());
+        entry.put("url", repository.getHtmlUrl());
+        entry.put("language", repository.getLanguage());
+        entry.put("languageKey", languageKey);
+        entry.put("technologyQuality", analysis.getTechnologyQuality());
+        entry.put("learningValue", analysis.getLearningValue());
+        entry.put("careerGrowth", analysis.getCareerGrowth());
+        entry.put("communityActivity", analysis.getCommunityActivity());
+        entry.put("recency", analysis.getRecency());
+        return entry;
+    }
+
+    private double score(RepositoryAnalysis analysis, String dimension) {
+        switch (dimension) {
+            case "technologyQuality": return analysis.getTechnologyQuality();
+            case "learningValue": return analysis.getLearningValue();
+            case "careerGrowth": return analysis.getCareerGrowth();
+            case "communityActivity": return analysis.getCommunityActivity();
+            case "recency": return analysis.getRecency();
+            default: return composite(analysis);
+        }
+    }
+
+    double composite(RepositoryAnalysis analysis) {
+        int[] scores = {analysis.getTechnologyQuality(), analysis.getLearningValue(), analysis.getCareerGrowth(),
+            analysis.getCommunityActivity(), analysis.getRecency()};
+        double weighted = 0;
+        int totalWeight = 0;
+        for (int i = 0; i < scores.length && i < compositeWeights.length; i++) {
+            weighted += scores[i] * compositeWeights[i];
+            totalWeight += compositeWeights[i];
+        }
+        return totalWeight == 0 ? analysis.getAverageScore() : Math.round(weighted / totalWeight * 100) / 100.0;
+    }
+
+    // "C++" ve "c++" aynı sıralamada; dili olmayan repolar "unknown"
+    static String languageKey(String language) {
+        if (language == null || language.isBlank()) {
+            return "unknown";
+        }
+        return language.trim().toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+
+    private static String key(String languageKey, String dimension) {
+        return PREFIX + languageKey + ":" + dimension;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("updates", updates.get());
+        stats.put("updateFailures", updateFailures.get());
+        stats.put("rebuilds", rebuilds.get());
+        stats.put("rebuiltEntries", rebuiltEntries.get());
+        return stats;
+    }
+}
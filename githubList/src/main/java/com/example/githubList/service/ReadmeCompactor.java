@@ -0,0 +1,233 @@
+package com.example.githubList.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// README'yi prompt'a girmeden önce kısaltır: commonmark AST'si üzerinden badge, resim ve HTML atılır,
+// her bölümün başlığı ile ilk paragrafı (ve ilk listesi) tutulur, kod blokları kırpılır,
+// toplam metin token bütçesini aşmaz. Sonuç README içeriğinin SHA-256'sı ile cache'lenir.
+@Component
+public class ReadmeCompactor {
+
+    // Analize katkısı olmayan bölümler tamamen atlanır
+    private static final Pattern SKIPPED_SECTION = Pattern.compile(
+        "(?i).*(changelog|change log|release notes|history|license|lisans|contributors|sponsors|backers|acknowledg|star history).*");
+    private static final String TRUNCATED_MARKER = "\n[README kısaltıldı]";
+    private static final int MIN_PARTIAL_CHARS = 200;
+    private static final Set<Class<? extends Node>> SKIPPED_BLOCKS = Set.of(HtmlBlock.class, ThematicBreak.class);
+
+    private final Parser markdownParser = Parser.builder().build();
+
+    @Value("${app.readme.token-budget:1500}")
+    private int tokenBudget;
+
+    @Value("${app.readme.code-max-lines:15}")
+    private int codeMaxLines;
+
+    @Value("${app.readme.list-max-items:10}")
+    private int listMaxItems;
+
+    private final Cache<String, String> compacted = Caffeine.newBuilder()
+        .maximumSize(2000)
+        .build();
+
+    private final AtomicLong compactions = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong originalTokens = new AtomicLong();
+    private final AtomicLong compactedTokens = new AtomicLong();
+
+    public String compact(String repoName, String readme) {
+        if (readme == null || readme.trim().isEmpty()) {
+            return readme;
+        }
+
+        String hash = sha256(readme);
+        String result = compacted.getIfPresent(hash);
+        if (result != null) {
+            cacheHits.incrementAndGet();
+        } else {
+            result = compactMarkdown(readme);
+            compacted.put(hash, result);
+        }
+
+        int before = estimateTokens(readme);
+        int after = estimateTokens(result);
+        compactions.incrementAndGet();
+        originalTokens.addAndGet(before);
+        compactedTokens.addAndGet(after);
+        System.out.println("README sıkıştırıldı " + repoName + ": " + before + " → " + after + " token");
+        return result;
+    }
+
+    String compactMarkdown(String readme) {
+        Node document = markdownParser.parse(readme);
+        StringBuilder out = new StringBuilder();
+        boolean skipSection = false;
+        boolean paragraphKept = false;
+        boolean listKept = false;
+        boolean codeKept = false;
+
+        for (Node block = document.getFirstChild(); block != null; block = block.getNext()) {
+            if (SKIPPED_BLOCKS.contains(block.getClass())) {
+                continue;
+            }
+
+            String text;
+            if (block instanceof Heading) {
+                String title = inlineText(block).trim();
+                skipSection = SKIPPED_SECTION.matcher(title).matches();
+                paragraphKept = false;
+                listKept = false;
+                codeKept = false;
+                if (skipSection || title.isEmpty()) {
+                    continue;
+                }
+                text = "#".repeat(((Heading) block).getLevel()) + " " + title;
+            } else if (skipSection) {
+                continue;
+            } else if (block instanceof Paragraph || block instanceof BlockQuote) {
+                if (paragraphKept) {
+                    continue;
+                }
+                text = inlineText(block).trim();
+                if (text.isEmpty()) {
+                    // Sadece badge / resimden oluşan paragraf
+                    continue;
+                }
+                paragraphKept = true;
+            } else if (block instanceof ListBlock) {
+                if (listKept) {
+                    continue;
+                }
+                text = listText((ListBlock) block);
+                listKept = !text.isEmpty();
+            } else if (block instanceof FencedCodeBlock || block instanceof IndentedCodeBlock) {
+                if (codeKept) {
+                    continue;
+                }
+                text = codeText(block);
+                codeKept = true;
+            } else {
+                continue;
+            }
+
+            if (text.isEmpty()) {
+                continue;
+            }
+            if (estimateTokens(out.length() + text.length() + 2) > tokenBudget) {
+                // Kalan bütçe anlamlıysa bloğun başı eklenir
+                int remainingChars = tokenBudget * 4 - out.length();
+                if (remainingChars >= MIN_PARTIAL_CHARS && !(block instanceof FencedCodeBlock || block instanceof IndentedCodeBlock)) {
+                    out.append(text, 0, Math.min(remainingChars, text.length()));
+                }
+                out.append(TRUNCATED_MARKER);
+                break;
+            }
+            out.append(text).append("\n\n");
+        }
+        return out.toString().trim();
+    }
+
+    private String listText(ListBlock list) {
+        StringBuilder out = new StringBuilder();
+        int count = 0;
+        for (Node item = list.getFirstChild(); item != null; item = item.getNext()) {
+            String itemText = inlineText(item).trim();
+            if (itemText.isEmpty()) {
+                continue;
+            }
+            if (++count > listMaxItems) {
+                out.append("- …\n");
+                break;
+            }
+            out.append("- ").append(itemText).append('\n');
+        }
+        return out.toString().trim();
+    }
+
+    private String codeText(Node block) {
+        String literal = block instanceof FencedCodeBlock
+            ? ((FencedCodeBlock) block).getLiteral() : ((IndentedCodeBlock) block).getLiteral();
+        String info = block instanceof FencedCodeBlock ? ((FencedCodeBlock) block).getInfo() : "";
+        String[] lines = literal.split("\n");
+        StringBuilder out = new StringBuilder("```").append(info == null ? "" : info).append('\n');
+        for (int i = 0; i < Math.min(lines.length, codeMaxLines); i++) {
+            out.append(lines[i]).append('\n');
+        }
+        if (lines.length > codeMaxLines) {
+            out.append("// ... ").append(lines.length - codeMaxLines).append(" satır daha\n");
+        }
+        return out.append("```").toString();
+    }
+
+    // Düz metin: resim ve HTML atlanır, link yerine link metni, iç içe bloklar tek satır
+    private static String inlineText(Node node) {
+        StringBuilder out = new StringBuilder();
+        appendInline(node, out);
+        return out.toString().replaceAll("[ \\t]+", " ");
+    }
+
+    private static void appendInline(Node node, StringBuilder out) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            if (child instanceof Image || child instanceof HtmlInline || child instanceof HtmlBlock) {
+                continue;
+            }
+            if (child instanceof Text) {
+                out.append(((Text) child).getLiteral());
+            } else if (child instanceof Code) {
+                out.append('`').append(((Code) child).getLiteral()).append('`');
+            } else if (child instanceof SoftLineBreak || child instanceof HardLineBreak) {
+                out.append(' ');
+            } else if (child instanceof Block && out.length() > 0) {
+                out.append(' ');
+                appendInline(child, out);
+            } else {
+                appendInline(child, out);
+            }
+        }
+    }
+
+    private static int estimateTokens(String text) {
+        return estimateTokens(text.length());
+    }
+
+    // GroqRequestScheduler ile aynı yaklaşık hesap: ~4 karakter/token
+    private static int estimateTokens(int characters) {
+        return characters / 4;
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 kullanılamıyor", e);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long before = originalTokens.get();
+        long after = compactedTokens.get();
+        stats.put("compactions", compactions.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("originalTokens", before);
+        stats.put("compactedTokens", after);
+        stats.put("savedTokens", before - after);
+        stats.put("savedPercent", before == 0 ? 0.0 : Math.round(1000.0 * (before - after) / before) / 10.0);
+        return stats;
+    }
+}
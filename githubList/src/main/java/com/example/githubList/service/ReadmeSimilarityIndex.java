@@ -0,0 +1,232 @@
+package com.example.githubList.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// Fork, template ve tutorial kopyalarını bulmak için README'ler üzerinde MinHash + LSH.
+// README normalize edilir, 5 kelimelik shingle'ların MinHash imzası çıkarılır; imza BANDS banda bölünür
+// ve her bant Redis'te bir bucket set'ine yazılır. Aynı bucket'ı paylaşan adayların Jaccard benzerliği
+// imzalardan tahmin edilir, eşiği geçen en benzer repo döner. Indeks Redis'te olduğu için replikalar paylaşır.
+@Component
+public class ReadmeSimilarityIndex {
+
+    private static final String BAND_PREFIX = "github:minhash:band:";
+    private static final String SIGNATURE_PREFIX = "github:minhash:sig:";
+    private static final Pattern URL = Pattern.compile("https?://\\S+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int SHINGLE_WORDS = 5;
+    // 16 bant x 8 satır: ~%70 benzerlikten itibaren aday olma olasılığı hızla artar
+    private static final int BANDS = 16;
+    private static final int ROWS = 8;
+    private static final int PERMUTATIONS = BANDS * ROWS;
+
+    private static final long[] SEEDS_A = new long[PERMUTATIONS];
+    private static final long[] SEEDS_B = new long[PERMUTATIONS];
+
+    static {
+        // Sabit tohum: imzalar farklı replikalarda ve yeniden başlatmalarda aynı kalmalı
+        SplittableRandom random = new SplittableRandom(0x5EED_2024L);
+        for (int i = 0; i < PERMUTATIONS; i++) {
+            SEEDS_A[i] = random.nextLong() | 1;
+            SEEDS_B[i] = random.nextLong();
+        }
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.readme.duplicate-threshold:0.85}")
+    private double threshold;
+
+    @Value("${app.readme.duplicate-min-words:50}")
+    private int minWords;
+
+    @Value("${app.readme.duplicate-ttl:2592000}")
+    private long ttlSeconds;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong candidatesChecked = new AtomicLong();
+    private final AtomicLong matches = new AtomicLong();
+    private final AtomicLong indexed = new AtomicLong();
+
+    public record Match(String repoId, double similarity) {}
+
+    public ReadmeSimilarityIndex(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<Match> findNearDuplicate(String repoId, String readme) {
+        int[] signature = signature(readme);
+        if (signature == null) {
+            return Optional.empty();
+        }
+        lookups.incrementAndGet();
+        try {
+            List<Object> buckets = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (int band = 0; band < BANDS; band++) {
+                        ops.opsForSet().members(bandKey(band, signature));
+                    }
+                    return null;
+                }
+            });
+            Set<String> candidates = new LinkedHashSet<>();
+            for (Object bucket : buckets) {
+                if (bucket instanceof Set) {
+                    ((Set<Object>) bucket).forEach(member -> candidates.add(member.toString()));
+                }
+            }
+            candidates.remove(repoId);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<String> candidateIds = new ArrayList<>(candidates);
+            List<String> keys = candidateIds.stream().map(id -> SIGNATURE_PREFIX + id).toList();
+            List<Object> signatures = redisTemplate.opsForValue().multiGet(keys);
+            candidatesChecked.addAndGet(candidateIds.size());
+
+            Match best = null;
+            for (int i = 0; i < candidateIds.size(); i++) {
+                Object encoded = signatures != null ? signatures.get(i) : null;
+                if (encoded == null) {
+                    continue; // İmzanın süresi dolmuş, bucket'taki kayıt eski
+                }
+                double similarity = estimateJaccard(signature, decode(encoded.toString()));
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(candidateIds.get(i), similarity);
+                }
+            }
+            if (best != null) {
+                matches.incrementAndGet();
+            }
+            return Optional.ofNullable(best);
+        } catch (Exception e) {
+            System.err.println("README benzerlik araması hatası: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void add(String repoId, String readme) {
+        int[] signature = signature(readme);
+        if (signature == null) {
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().set(SIGNATURE_PREFIX + repoId, encode(signature), ttl);
+                    for (int band = 0; band < BANDS; band++) {
+                        String key = bandKey(band, signature);
+                        ops.opsForSet().add(key, repoId);
+                        ops.expire(key, ttl);
+                    }
+                    return null;
+                }
+            });
+            indexed.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("README benzerlik indeksleme hatası: " + e.getMessage());
+        }
+    }
+
+    // Çok kısa README'ler (ör. sadece başlık) her şeye benzeyeceği için indekslenmez
+    int[] signature(String readme) {
+        if (readme == null) {
+            return null;
+        }
+        String[] words = NON_WORD.split(URL.matcher(readme.toLowerCase(Locale.ROOT)).replaceAll(" ").trim());
+        if (words.length < Math.max(minWords, SHINGLE_WORDS)) {
+            return null;
+        }
+
+        int[] signature = new int[PERMUTATIONS];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int start = 0; start + SHINGLE_WORDS <= words.length; start++) {
+            long shingle = mix64(String.join(" ", Arrays.asList(words).subList(start, start + SHINGLE_WORDS)).hashCode());
+            for (int i = 0; i < PERMUTATIONS; i++) {
+                int value = (int) (mix64(shingle * SEEDS_A[i] + SEEDS_B[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double estimateJaccard(int[] a, int[] b) {
+        if (a.length != b.length) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static String bandKey(int band, int[] signature) {
+        int hash = Arrays.hashCode(Arrays.copyOfRange(signature, band * ROWS, (band + 1) * ROWS));
+        return BAND_PREFIX + band + ":" + Integer.toHexString(hash);
+    }
+
+    // murmur3 fmix64
+    private static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static String encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static int[] decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        int[] signature = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(signature);
+        return signature;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("indexed", indexed.get());
+        stats.put("lookups", lookups.get());
+        stats.put("candidatesChecked", candidatesChecked.get());
+        stats.put("matches", matches.get());
+        stats.put("threshold", threshold);
+        return stats;
+    }
+}
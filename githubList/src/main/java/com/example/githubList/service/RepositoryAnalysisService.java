@@ -0,0 +1,582 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.AnalysisResult;
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class RepositoryAnalysisService {
+
+    @Autowired
+    private GitHubApiService githubApiService;
+
+    @Autowired
+    private GroqAIService groqAIService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private ReadmeCompactor readmeCompactor;
+
+    @Autowired
+    private ThreadPoolTaskExecutor analysisRefreshExecutor;
+
+    @Autowired
+    private AnalysisStore analysisStore;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private SimilarityService similarityService;
+
+    @Autowired
+    private ReadmeSimilarityIndex readmeSimilarityIndex;
+
+    @Value("${app.analysis.coalesce-timeout:120}")
+    private long coalesceTimeoutSeconds;
+
+    // Groq'tan JSON (response_format) yanıt iste; başarısız olursa markdown yoluna düşülür
+    @Value("${groq.api.structured-output:true}")
+    private boolean structuredOutput;
+
+    // Single-flight: aynı repo için devam eden analizler, canonical repo id ile
+    private final ConcurrentHashMap<String, CompletableFuture<AnalysisResult>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong leaderCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    // Yanıt formatına göre sonuçlar
+    private final AtomicLong structuredSuccess = new AtomicLong();
+    private final AtomicLong structuredFallbacks = new AtomicLong();
+    private final AtomicLong markdownParseFailures = new AtomicLong();
+    private final AtomicLong fingerprintReuses = new AtomicLong();
+    private final AtomicLong nearDuplicateReuses = new AtomicLong();
+
+    // Stale-while-revalidate: repo başına en fazla bir arka plan yenilemesi
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong refreshesStarted = new AtomicLong();
+    private final AtomicLong refreshesDeduplicated = new AtomicLong();
+    private final AtomicLong refreshesRejected = new AtomicLong();
+    private final AtomicLong storeRestores = new AtomicLong();
+    private final AtomicLong warmed = new AtomicLong();
+
+    public AnalysisResult analyze(String owner, String repo) {
+        String cacheKey = analysisCacheKey(owner, repo);
+
+        // Önce cache'den analiz kontrol et - hit durumunda README'ye gerek yok
+        Optional<RepositoryAnalysis> cachedAnalysis = cacheService.getCachedAnalysis(cacheKey)
+            .or(() -> restoreFromStore(owner, repo, cacheKey));
+        AnalysisResult result = cachedAnalysis.isPresent()
+            ? fromCache(owner, repo, cachedAnalysis.get())
+            : analyzeCoalesced(owner, repo, cacheKey, false);
+        recordAccess(owner, repo, result);
+        return result;
+    }
+
+    // Sadece var olan repolar sayılır: bulunamayan repolar popüler olup HotKeyWarmer'ı boşuna çalıştırmasın
+    private void recordAccess(String owner, String repo, AnalysisResult result) {
+        if (result.getRepository() != null || result.getAnalysis() != null) {
+            cacheService.recordAccess(owner, repo);
+        }
+    }
+
+    // Single-flight: kullanıcı istekleri ve arka plan yenilemesi aynı repo için tek Groq çağrısı paylaşır
+    private AnalysisResult analyzeCoalesced(String owner, String repo, String cacheKey, boolean refresh) {
+        String flightKey = CacheService.canonicalRepoId(owner, repo);
+        CompletableFuture<AnalysisResult> flight = new CompletableFuture<>();
+        CompletableFuture<AnalysisResult> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            // Aynı repo için bir analiz zaten yapılıyor, onun sonucunu bekle
+            coalescedCount.incrementAndGet();
+            System.out.println("Devam eden analize katılındı: " + flightKey);
+            try {
+                AnalysisResult result = existing.get(coalesceTimeoutSeconds, TimeUnit.SECONDS);
+                return result.withCacheInfo("Eşzamanlı yapılan analiz paylaşıldı");
+            } catch (ExecutionException e) {
+                // Liderin hatası (ör. kota, README alınamadı) türü korunarak iletilir
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException("Eşzamanlı analiz bekleme hatası: " + e.getMessage());
+            } catch (Exception e) {
+                throw new RuntimeException("Eşzamanlı analiz bekleme hatası: " + e.getMessage());
+            }
+        }
+
+        leaderCount.incrementAndGet();
+        try {
+            AnalysisResult result = analyzeFresh(owner, repo, cacheKey, refresh);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private AnalysisResult analyzeFresh(String owner, String repo, String cacheKey, boolean refresh) {
+        // Lider olmadan hemen önce başka bir lider bitirmiş olabilir (yenilemede eski kayıt zaten var)
+        Optional<RepositoryAnalysis> cachedAnalysis = refresh ? Optional.empty() : cacheService.getCachedAnalysis(cacheKey);
+        if (cachedAnalysis.isPresent()) {
+            return fromCache(owner, repo, cachedAnalysis.get());
+        }
+
+        GitHubRepository repository = loadRepository(owner, repo, true);
+        if (repository == null) {
+            return new AnalysisResult(null, null, null, false);
+        }
+
+        String fingerprint = AnalysisFingerprint.of(repository, GroqAIService.PROMPT_VERSION);
+        Optional<AnalysisResult> reused = reuseByFingerprint(owner, repo, cacheKey, fingerprint, repository)
+            .or(() -> reuseNearDuplicate(owner, repo, cacheKey, fingerprint, repository));
+        if (reused.isPresent()) {
+            return reused.get();
+        }
+
+        System.out.println("Yeni analiz yapılıyor");
+        // Groq AI ile detaylı analiz yap
+        RepositoryAnalysis analysis = performDetailedAnalysis(repository);
+        if (analysis != null) {
+            // Cache'e ve kalıcı depoya kaydet
+            saveAnalysis(owner, repo, cacheKey, fingerprint, repository, analysis);
+        }
+        return new AnalysisResult(repository, analysis, "Groq AI analizi yapıldı", false);
+    }
+
+    // Streaming akışının dinleyicisi: repo bilgisi, gelen metin parçaları ve ara puanlar
+    public interface StreamListener {
+        void onRepository(GitHubRepository repository);
+
+        void onToken(String token);
+
+        void onScores(RepositoryAnalysis partialAnalysis);
+    }
+
+    // Cache hit'te analiz hemen döner; miss'te Groq yanıtı stream edilir ve sonunda cache'lenir.
+    // Token'ları yalnızca lider alabileceği için streaming istekleri single-flight'a katılmaz.
+    public AnalysisResult analyzeStreaming(String owner, String repo, StreamListener listener) {
+        String cacheKey = analysisCacheKey(owner, repo);
+        Optional<RepositoryAnalysis> cachedAnalysis = cacheService.getCachedAnalysis(cacheKey)
+            .or(() -> restoreFromStore(owner, repo, cacheKey));
+        if (cachedAnalysis.isPresent()) {
+            AnalysisResult result = fromCache(owner, repo, cachedAnalysis.get());
+            recordAccess(owner, repo, result);
+            return result;
+        }
+
+        GitHubRepository repository = loadRepository(owner, repo, true);
+        if (repository == null) {
+            return new AnalysisResult(null, null, null, false);
+        }
+        cacheService.recordAccess(owner, repo);
+        listener.onRepository(repository);
+
+        String fingerprint = AnalysisFingerprint.of(repository, GroqAIService.PROMPT_VERSION);
+        Optional<AnalysisResult> reused = reuseByFingerprint(owner, repo, cacheKey, fingerprint, repository)
+            .or(() -> reuseNearDuplicate(owner, repo, cacheKey, fingerprint, repository));
+        if (reused.isPresent()) {
+            return reused.get();
+        }
+
+        AnalysisResponseParser parser = new AnalysisResponseParser();
+        int[] reportedScores = {0};
+        groqAIService.streamAnalysis(
+            repository.getFullName(),
+            repository.getDescription(),
+            repository.getLanguage(),
+            repository.getStargazersCount(),
+            repository.getForksCount(),
+            repository.getUpdatedAt() != null ? repository.getUpdatedAt().toString() : null,
+            readmeCompactor.compact(repository.getFullName(), repository.getReadmeContent()),
+            token -> {
+                listener.onToken(token);
+                parser.accept(token);
+                // Yeni bir puan satırı tamamlandıysa ara sonucu bildir
+                if (parser.getScoresFound() > reportedScores[0]) {
+                    reportedScores[0] = parser.getScoresFound();
+                    listener.onScores(parser.getPartialAnalysis());
+                }
+            });
+
+        RepositoryAnalysis analysis = parser.finish();
+        analysis.setRepositoryName(repository.getFullName());
+        analysis.setRepositoryUrl(repository.getHtmlUrl());
+        analysis.renderHtml();
+        saveAnalysis(owner, repo, cacheKey, fingerprint, repository, analysis);
+        return new AnalysisResult(repository, analysis, "Groq AI analizi yapıldı", false);
+    }
+
+    // Özet cache'i süresi dolmuş olsa da README, popülerlik kovası ve prompt versiyonu aynıysa
+    // önceki analiz Groq'a gitmeden kullanılır ve özet cache'i yeniden doldurulur
+    private Optional<AnalysisResult> reuseByFingerprint(String owner, String repo, String cacheKey,
+                                                        String fingerprint, GitHubRepository repository) {
+        Optional<RepositoryAnalysis> previous = cacheService.getAnalysisByFingerprint(owner, repo, fingerprint);
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        fingerprintReuses.incrementAndGet();
+        System.out.println("README değişmedi, önceki analiz kullanılıyor: " + repository.getFullName());
+        saveAnalysis(owner, repo, cacheKey, fingerprint, repository, previous.get());
+        return Optional.of(new AnalysisResult(repository, previous.get(),
+            "İçerik değişmediği için önceki analiz kullanıldı", true));
+    }
+
+    // README'si daha önce analiz edilmiş bir repoyla neredeyse aynıysa (fork, template, tutorial kopyası)
+    // metin bölümleri ve README'ye dayalı puanlar o analizden alınır, istatistik puanları yeniden hesaplanır
+    private Optional<AnalysisResult> reuseNearDuplicate(String owner, String repo, String cacheKey,
+                                                        String fingerprint, GitHubRepository repository) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        Optional<ReadmeSimilarityIndex.Match> match = readmeSimilarityIndex.findNearDuplicate(repoId, repository.getReadmeContent());
+        if (match.isEmpty()) {
+            return Optional.empty();
+        }
+        String[] source = match.get().repoId().split("/", 2);
+        Optional<RepositoryAnalysis> sourceAnalysis = cacheService.getLatestAnalysis(source[0], source[1])
+            .or(() -> analysisStore.findAnalysis(source[0], source[1]).map(AnalysisStore.StoredAnalysis::analysis));
+        if (sourceAnalysis.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Kaynak analizin kopyası (cache'teki nesne değişmesin)
+        RepositoryAnalysis analysis = AnalysisCodec.decode(new LinkedHashMap<>(AnalysisCodec.encode(sourceAnalysis.get())));
+        analysis.setRepositoryName(repository.getFullName());
+        analysis.setRepositoryUrl(repository.getHtmlUrl());
+        RepositoryStatsScorer.apply(analysis, repository);
+
+        nearDuplicateReuses.incrementAndGet();
+        long percent = Math.round(match.get().similarity() * 100);
+        System.out.println("README %" + percent + " benzer, " + match.get().repoId() + " analizi uyarlandı: " + repoId);
+        saveAnalysis(owner, repo, cacheKey, fingerprint, repository, analysis);
+        return Optional.of(new AnalysisResult(repository, analysis,
+            "README'si %" + percent + " benzer olan " + match.get().repoId() + " analizinden uyarlandı", true));
+    }
+
+    private void saveAnalysis(String owner, String repo, String cacheKey, String fingerprint,
+                              GitHubRepository repository, RepositoryAnalysis analysis) {
+        cacheService.cacheAnalysis(cacheKey, analysis);
+        cacheService.cacheAnalysisByFingerprint(owner, repo, fingerprint, analysis);
+        analysisStore.save(owner, repo, repository, analysis, fingerprint);
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        leaderboardService.record(repoId, repository, analysis);
+        similarityService.index(repoId, repository, analysis);
+        readmeSimilarityIndex.add(repoId, repository.getReadmeContent());
+    }
+
+    // Redis'te yoksa PostgreSQL'deki kopya AI çağrısı yapmadan Redis'e geri yüklenir. Hard TTL'i geçmişse
+    // sadece parmak izi geri yüklenir: yeni analiz akışı repo değişmediyse yine Groq'a gitmez
+    private Optional<RepositoryAnalysis> restoreFromStore(String owner, String repo, String cacheKey) {
+        Optional<AnalysisStore.StoredAnalysis> stored = analysisStore.findAnalysis(owner, repo);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        RepositoryAnalysis analysis = stored.get().analysis();
+        if (stored.get().fingerprint() != null) {
+            cacheService.cacheAnalysisByFingerprint(owner, repo, stored.get().fingerprint(), analysis);
+        }
+        storeRestores.incrementAndGet();
+        if (cacheService.isPastHardTtl(analysis)) {
+            return Optional.empty();
+        }
+        System.out.println("Analiz kalıcı depodan geri yüklendi: " + owner + "/" + repo);
+        cacheService.restoreAnalysis(cacheKey, analysis);
+        return Optional.of(analysis);
+    }
+
+    private AnalysisResult fromCache(String owner, String repo, RepositoryAnalysis analysis) {
+        GitHubRepository repository = loadRepository(owner, repo, false);
+        if (refreshIfStale(owner, repo, analysis)) {
+            System.out.println("Eski analiz sunuldu, arka planda yenileniyor: " + owner + "/" + repo);
+            return new AnalysisResult(repository, analysis, "Önbellekteki analiz eski, arka planda yenileniyor", true, true);
+        }
+        System.out.println("Cache'den yüklendi");
+        return new AnalysisResult(repository, analysis, "Cache'den yüklendi", true);
+    }
+
+    // Soft TTL'i geçmişse yenilemeyi başlatır (repo başına tek yenileme) ve true döner
+    public boolean refreshIfStale(String owner, String repo, RepositoryAnalysis cached) {
+        if (!cacheService.isStale(cached)) {
+            return false;
+        }
+        staleServed.incrementAndGet();
+
+        submitRefresh(CacheService.canonicalRepoId(owner, repo), () -> refresh(owner, repo));
+        return true;
+    }
+
+    // Sıcak repo ısıtma (HotKeyWarmer): süresi dolmak üzere olan metadata ve/veya analiz kullanıcı
+    // istemeden yenilenir. Analiz cache'te hiç yoksa önce kalıcı depodan geri yükleme denenir
+    public boolean warm(String owner, String repo, boolean metadata, boolean analysis) {
+        return submitRefresh(CacheService.canonicalRepoId(owner, repo), () -> {
+            try {
+                RequestPriority.callAs(RequestPriority.BACKGROUND, () -> {
+                    if (metadata) {
+                        GitHubRepository repository = githubApiService.getRepositoryMetadata(owner, repo);
+                        if (repository != null) {
+                            cacheService.cacheRepository(owner, repo, repository);
+                        }
+                    }
+                    String cacheKey = analysisCacheKey(owner, repo);
+                    if (analysis && (cacheService.getCachedScores(cacheKey).isPresent()
+                            || restoreFromStore(owner, repo, cacheKey).isEmpty())) {
+                        analyzeCoalesced(owner, repo, cacheKey, true);
+                    }
+                    return null;
+                });
+                warmed.incrementAndGet();
+            } catch (Exception e) {
+                System.err.println("Cache ısıtma hatası " + owner + "/" + repo + ": " + e.getMessage());
+            }
+        });
+    }
+
+    // Repo başına tek arka plan işi; başka bir yenileme sürüyorsa veya kuyruk doluysa false
+    private boolean submitRefresh(String repoId, Runnable task) {
+        if (!refreshing.add(repoId)) {
+            refreshesDeduplicated.incrementAndGet();
+            return false;
+        }
+        try {
+            analysisRefreshExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    refreshing.remove(repoId);
+                }
+            });
+            refreshesStarted.incrementAndGet();
+            return true;
+        } catch (TaskRejectedException e) {
+            // Kuyruk dolu: eski analiz sunulmaya devam eder, sonraki istek yeniden dener
+            refreshing.remove(repoId);
+            refreshesRejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void refresh(String owner, String repo) {
+        try {
+            // Yenileme kullanıcıyı bekletmediği için GitHub ve Groq kotalarında toplu işlerle aynı kuyrukta
+            RequestPriority.callAs(RequestPriority.BACKGROUND,
+                () -> analyzeCoalesced(owner, repo, analysisCacheKey(owner, repo), true));
+        } catch (Exception e) {
+            System.err.println("Arka plan analiz yenileme hatası " + owner + "/" + repo + ": " + e.getMessage());
+        }
+    }
+
+    // Kullanıcının yazdığı harf büyüklüğünden bağımsız; HotKeyWarmer'ın küçük harfli repo id'leriyle aynı kayda düşer
+    public static String analysisCacheKey(String owner, String repo) {
+        return "analysis:" + CacheService.canonicalRepoId(owner, repo);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("leaders", leaderCount.get());
+        stats.put("coalesced", coalescedCount.get());
+        stats.put("inFlight", inFlight.size());
+        stats.put("structuredSuccess", structuredSuccess.get());
+        stats.put("structuredFallbacks", structuredFallbacks.get());
+        stats.put("markdownParseFailures", markdownParseFailures.get());
+        stats.put("fingerprintReuses", fingerprintReuses.get());
+        stats.put("nearDuplicateReuses", nearDuplicateReuses.get());
+        // Groq'a gitmeden tamamlanan analizler
+        stats.put("aiCallsSaved", fingerprintReuses.get() + nearDuplicateReuses.get());
+        stats.put("staleServed", staleServed.get());
+        stats.put("refreshesStarted", refreshesStarted.get());
+        stats.put("refreshesDeduplicated", refreshesDeduplicated.get());
+        stats.put("refreshesRejected", refreshesRejected.get());
+        stats.put("refreshing", refreshing.size());
+        stats.put("storeRestores", storeRestores.get());
+        stats.put("warmed", warmed.get());
+        return stats;
+    }
+
+    // Toplu iş öncesi: cache'de olmayan repoların metadata + README'si tek seferde çekilip
+    // cache'lenir, böylece ardından gelen analyze() çağrıları GitHub'a tek tek gitmez
+    // (token yoksa yapılmaz: REST ile tek tek çekimi analizler zaten paralel yapar)
+    public void prefetchRepositories(List<String[]> repos) {
+        if (!githubApiService.isGraphQlAvailable()) {
+            return;
+        }
+        List<String[]> missing = new ArrayList<>();
+        for (String[] ownerRepo : repos) {
+            if (cacheService.getCachedRepository(ownerRepo[0], ownerRepo[1]).isEmpty()
+                    || cacheService.getCachedReadme(ownerRepo[0], ownerRepo[1]).isEmpty()) {
+                missing.add(ownerRepo);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<String, GitHubRepository> fetched = githubApiService.getRepositories(missing);
+        for (String[] ownerRepo : missing) {
+            GitHubRepository repository = fetched.get(CacheService.canonicalRepoId(ownerRepo[0], ownerRepo[1]));
+            if (repository == null) {
+                continue;
+            }
+            String readmeContent = repository.getReadmeContent();
+            repository.setReadmeContent(null);
+            cacheService.cacheRepository(ownerRepo[0], ownerRepo[1], repository);
+            // README yaygın yolların hiçbirinde değilse cache'lenmez: analiz REST /readme ile
+            // GitHub'ın çözdüğü asıl README'yi çeker
+            if (readmeContent != null) {
+                cacheService.cacheReadme(ownerRepo[0], ownerRepo[1], readmeContent);
+            }
+        }
+    }
+
+    // Cache-first repo yükleme: metadata ve README ayrı TTL'lerle cache'lenir,
+    // ikisi de cache'deyse GitHub'a hiç istek atılmaz
+    private GitHubRepository loadRepository(String owner, String repo, boolean withReadme) {
+        GitHubRepository repository = cacheService.getCachedRepository(owner, repo).orElse(null);
+        if (repository == null && !withReadme) {
+            // Cache'li analizi göstermek için son bilinen metadata yeterli
+            repository = analysisStore.findRepository(owner, repo).orElse(null);
+            if (repository != null) {
+                cacheService.cacheRepository(owner, repo, repository);
+            }
+        }
+        Optional<String> cachedReadme = withReadme ? cacheService.getCachedReadme(owner, repo) : Optional.empty();
+
+        if (repository == null && withReadme && cachedReadme.isEmpty()) {
+            // İkisi de cache'de yok: metadata ve README'yi paralel çek
+            repository = githubApiService.getRepository(owner, repo);
+            if (repository == null) {
+                return null;
+            }
+            String readmeContent = repository.getReadmeContent();
+            repository.setReadmeContent(null);
+            cacheService.cacheRepository(owner, repo, repository);
+            cacheService.cacheReadme(owner, repo, requireReadme(owner, repo, readmeContent));
+            repository.setReadmeContent(readmeContent.isEmpty() ? null : readmeContent);
+            return repository;
+        }
+
+        if (repository == null) {
+            repository = githubApiService.getRepositoryMetadata(owner, repo);
+            if (repository == null) {
+                return null;
+            }
+            cacheService.cacheRepository(owner, repo, repository);
+        }
+
+        if (withReadme) {
+            String readmeContent;
+            if (cachedReadme.isPresent()) {
+                readmeContent = cachedReadme.get();
+            } else {
+                readmeContent = requireReadme(owner, repo, githubApiService.getReadmeContent(owner, repo));
+                cacheService.cacheReadme(owner, repo, readmeContent);
+            }
+            repository.setReadmeContent(readmeContent.isEmpty() ? null : readmeContent);
+        }
+        return repository;
+    }
+
+    // "README yok" sadece 404'te cache'lenir. Geçici hatada analiz yapılmaz: README'siz analiz
+    // parmak iziyle saklanıp README gelene kadar sonraki isteklerde de kullanılırdı
+    private static String requireReadme(String owner, String repo, String readmeContent) {
+        if (readmeContent == null) {
+            throw new IllegalStateException("README alınamadı: " + owner + "/" + repo + ", lütfen biraz sonra tekrar deneyin");
+        }
+        return readmeContent;
+    }
+
+    private RepositoryAnalysis performDetailedAnalysis(GitHubRepository repo) {
+        String readme = readmeCompactor.compact(repo.getFullName(), repo.getReadmeContent());
+        RepositoryAnalysis analysis = null;
+        if (structuredOutput) {
+            try {
+                analysis = performStructuredAnalysis(repo, readme);
+                structuredSuccess.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // Model şemaya uymadı: aynı içerik markdown formatında istenir
+                structuredFallbacks.incrementAndGet();
+                System.err.println("JSON analiz çözülemedi, markdown formatı deneniyor: " + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("performDetailedAnalysis hatası: " + e.getMessage());
+                return null;
+            }
+        }
+        if (analysis == null) {
+            analysis = performMarkdownAnalysis(repo, readme);
+        }
+        if (analysis == null) {
+            return null;
+        }
+        analysis.setRepositoryName(repo.getFullName());
+        analysis.setRepositoryUrl(repo.getHtmlUrl());
+        analysis.renderHtml();
+        return analysis;
+    }
+
+    // JSON modu: yanıt Jackson streaming ile doğrudan çözülür, tablo/başlık taraması yok
+    // Şemaya uymayan yanıtta IllegalArgumentException
+    private RepositoryAnalysis performStructuredAnalysis(GitHubRepository repo, String readme) {
+        String aiResponse = groqAIService.analyzeRepositoryStructured(
+            repo.getFullName(),
+            repo.getDescription(),
+            repo.getLanguage(),
+            repo.getStargazersCount(),
+            repo.getForksCount(),
+            repo.getUpdatedAt() != null ? repo.getUpdatedAt().toString() : null,
+            readme
+        );
+        return AnalysisJsonDecoder.decode(aiResponse);
+    }
+
+    private RepositoryAnalysis performMarkdownAnalysis(GitHubRepository repo, String readme) {
+        try {
+            // Groq AI ile detaylı analiz
+            String aiResponse = groqAIService.analyzeRepository(
+                repo.getFullName(),
+                repo.getDescription(),
+                repo.getLanguage(),
+                repo.getStargazersCount(),
+                repo.getForksCount(),
+                repo.getUpdatedAt() != null ? repo.getUpdatedAt().toString() : null,
+                readme
+            );
+            
+            if (aiResponse == null || aiResponse.trim().isEmpty()) {
+                System.err.println("Groq AI'dan boş yanıt alındı");
+                return null;
+            }
+            
+            // AI yanıtını tek geçişte parse et
+            System.out.println("AI yanıtı parse ediliyor, uzunluk: " + aiResponse.length());
+            try {
+                return AnalysisResponseParser.parse(aiResponse);
+            } catch (RuntimeException e) {
+                markdownParseFailures.incrementAndGet();
+                throw e;
+            }
+        } catch (Exception e) {
+            System.err.println("performDetailedAnalysis hatası: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
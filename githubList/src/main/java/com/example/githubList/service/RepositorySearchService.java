@@ -0,0 +1,152 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GitHub repo araması: her (dil, sorgu, sayfa) sonucu Redis'te ayrı cache'lenir. Cache hit'te GitHub'a
+// hiç gidilmez; miss'te sayfa çekilir ve bir sonraki sayfa arka planda (BACKGROUND önceliğiyle) önceden çekilir.
+// Aynı sayfa için eşzamanlı istekler ve önceden çekme tek bir arama çağrısını paylaşır.
+@Service
+public class RepositorySearchService {
+
+    // GitHub arama API'si bir sorgu için en fazla ilk 1000 sonucu döndürür
+    public static final int MAX_RESULTS = 1000;
+
+    @Autowired
+    private GitHubApiService githubApiService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor searchPrefetchExecutor;
+
+    @Value("${app.github.search.limit:20}")
+    private int pageSize;
+
+    @Value("${app.github.search.coalesce-timeout:30}")
+    private long coalesceTimeoutSeconds;
+
+    private final ConcurrentHashMap<String, CompletableFuture<List<GitHubRepository>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong prefetches = new AtomicLong();
+    private final AtomicLong prefetchesRejected = new AtomicLong();
+
+    public record SearchPage(List<GitHubRepository> repositories, int page, boolean cached, boolean hasMore) {}
+
+    // page 1'den başlar; GitHub araması başarısızsa boş döner
+    public Optional<SearchPage> search(String language, String query, int page) {
+        Optional<List<GitHubRepository>> cached = cacheService.getCachedRepositories(language, query, page);
+        if (cached.isPresent()) {
+            cacheHits.incrementAndGet();
+            return Optional.of(new SearchPage(cached.get(), page, true, hasMore(page, cached.get().size())));
+        }
+        cacheMisses.incrementAndGet();
+
+        List<GitHubRepository> repositories = fetch(language, query, page);
+        if (repositories == null) {
+            return Optional.empty();
+        }
+        boolean hasMore = hasMore(page, repositories.size());
+        if (hasMore) {
+            prefetch(language, query, page + 1);
+        }
+        return Optional.of(new SearchPage(repositories, page, false, hasMore));
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    // Sayfa doluysa ve 1000 sonuç sınırına gelinmediyse sonraki sayfa olabilir
+    boolean hasMore(int page, int count) {
+        return count >= pageSize && (long) page * pageSize < MAX_RESULTS;
+    }
+
+    private List<GitHubRepository> fetch(String language, String query, int page) {
+        String flightKey = CacheService.searchKey(language, query, page);
+        CompletableFuture<List<GitHubRepository>> flight = new CompletableFuture<>();
+        CompletableFuture<List<GitHubRepository>> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            // Aynı sayfa zaten çekiliyor (ör. önceden çekme), onun sonucunu bekle
+            coalesced.incrementAndGet();
+            try {
+                return existing.get(coalesceTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException("Eşzamanlı arama bekleme hatası: " + e.getMessage());
+            } catch (Exception e) {
+                throw new RuntimeException("Eşzamanlı arama bekleme hatası: " + e.getMessage());
+            }
+        }
+
+        try {
+            searches.incrementAndGet();
+            List<GitHubRepository> repositories = githubApiService.searchRepositories(language, query, page, pageSize);
+            if (repositories != null) {
+                cacheService.cacheRepositories(language, query, page, repositories);
+            }
+            flight.complete(repositories);
+            return repositories;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private void prefetch(String language, String query, int page) {
+        if (inFlight.containsKey(CacheService.searchKey(language, query, page))
+                || cacheService.getCachedRepositories(language, query, page).isPresent()) {
+            return;
+        }
+        try {
+            searchPrefetchExecutor.execute(() -> {
+                try {
+                    // Kullanıcı beklemediği için arama kotasının kullanıcı isteklerine ayrılan kısmına dokunmaz
+                    RequestPriority.callAs(RequestPriority.BACKGROUND, () -> fetch(language, query, page));
+                    prefetches.incrementAndGet();
+                } catch (Exception e) {
+                    System.err.println("Arama sonraki sayfa çekme hatası: " + e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Kuyruk dolu: sayfa istendiğinde normal yoldan çekilir
+            prefetchesRejected.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("cacheMisses", cacheMisses.get());
+        stats.put("searches", searches.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("prefetches", prefetches.get());
+        stats.put("prefetchesRejected", prefetchesRejected.get());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+}
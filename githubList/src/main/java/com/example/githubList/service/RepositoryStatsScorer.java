@@ -0,0 +1,74 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Sadece GitHub istatistiklerinden (yıldız, fork, son güncelleme) hesaplanabilen puanlar.
+// Başka bir repodan uyarlanan analizlerde bu alanlar yeni reponun kendi değerleriyle yeniden yazılır.
+public final class RepositoryStatsScorer {
+
+    private RepositoryStatsScorer() {}
+
+    public static void apply(RepositoryAnalysis analysis, GitHubRepository repository) {
+        int stars = repository.getStargazersCount() != null ? repository.getStargazersCount() : 0;
+        int forks = repository.getForksCount() != null ? repository.getForksCount() : 0;
+        analysis.setCommunityActivity(communityScore(stars, forks));
+        analysis.setCommunityActivityDescription(stars + " yıldız ve " + forks + " fork ile topluluk ilgisi "
+            + level(analysis.getCommunityActivity()) + ".");
+
+        Long days = repository.getUpdatedAt() != null
+            ? Duration.between(repository.getUpdatedAt(), LocalDateTime.now()).toDays() : null;
+        analysis.setRecency(recencyScore(days));
+        analysis.setRecencyDescription(days == null ? "Son güncelleme tarihi bilinmiyor."
+            : describeAge(days) + "; güncellik " + level(analysis.getRecency()) + ".");
+    }
+
+    // Logaritmik: 10 yıldız ~12, 1.000 yıldız ~36, 100.000 yıldız ~60 puan; fork'lar en fazla 40 ekler
+    static int communityScore(int stars, int forks) {
+        double score = 12 * Math.log10(stars + 1) + 10 * Math.log10(forks + 1);
+        return (int) Math.min(100, Math.round(score));
+    }
+
+    // GroqAIService prompt'undaki güncellik bantları: 1-7 gün 90-100, 8-30 gün 70-89, 31-90 gün 50-69,
+    // 90+ gün 30-49. AnalysisFingerprint de aynı bantları kullanır
+    private static final int[] RECENCY_BAND_LAST_DAY = {7, 30, 90};
+    private static final int[] RECENCY_BAND_MAX = {100, 89, 69, 49};
+    private static final int[] RECENCY_BAND_MIN = {90, 70, 50, 30};
+    // 90+ bandı bir yılda tabana iner
+    private static final int RECENCY_FLOOR_DAY = 365;
+
+    static int recencyBand(long days) {
+        for (int band = 0; band < RECENCY_BAND_LAST_DAY.length; band++) {
+            if (days <= RECENCY_BAND_LAST_DAY[band]) {
+                return band;
+            }
+        }
+        return RECENCY_BAND_LAST_DAY.length;
+    }
+
+    // Bant içinde doğrusal: bandın ilk günü üst sınır, son günü alt sınır
+    static int recencyScore(Long days) {
+        if (days == null) return 0;
+        long age = Math.max(0, days);
+        int band = recencyBand(age);
+        int firstDay = band == 0 ? 0 : RECENCY_BAND_LAST_DAY[band - 1] + 1;
+        int lastDay = band < RECENCY_BAND_LAST_DAY.length ? RECENCY_BAND_LAST_DAY[band] : RECENCY_FLOOR_DAY;
+        double position = Math.min(1, (double) (age - firstDay) / Math.max(1, lastDay - firstDay));
+        return (int) Math.round(RECENCY_BAND_MAX[band] - (RECENCY_BAND_MAX[band] - RECENCY_BAND_MIN[band]) * position);
+    }
+
+    private static String describeAge(long days) {
+        if (days <= 8) return days + " gün içinde commit yapılmış";
+        if (days < 60) return (days / 7) + " hafta önce son güncelleme";
+        return (days / 30) + " ay önce son güncelleme";
+    }
+
+    private static String level(int score) {
+        if (score >= 70) return "yüksek";
+        if (score >= 40) return "orta";
+        return "düşük";
+    }
+}
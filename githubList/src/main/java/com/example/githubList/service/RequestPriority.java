@@ -0,0 +1,25 @@
+package com.example.githubList.service;
+
+import java.util.function.Supplier;
+
+// Dış API kotalarında (GitHub, Groq) isteğin hangi kuyruğa gireceği.
+// Öncelik thread'e bağlıdır: callAs() içindeki tüm çağrılar bu önceliği kullanır.
+public enum RequestPriority {
+    INTERACTIVE, BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static RequestPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callAs(RequestPriority priority, Supplier<T> call) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
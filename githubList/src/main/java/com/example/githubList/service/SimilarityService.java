@@ -0,0 +1,243 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Benzer repolar: README ve analiz özeti TextEmbedder ile vektörleştirilir, pgvector'de HNSW indeksli
+// kolonda saklanır ve k-NN sorgusu kosinüs mesafesiyle yapılır. Yazmalar AnalysisStore gibi
+// write-behind; pgvector yoksa (düz PostgreSQL) özellik kapalı kalır, analizler etkilenmez.
+@Service
+public class SimilarityService {
+
+    private static final int MAX_EMBEDDED_CHARS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TextEmbedder embedder;
+
+    @Value("${app.similarity.enabled:true}")
+    private boolean enabled;
+
+    // hnsw.ef_search varsayılanı (40) kadar sonuç indeksten güvenle döner
+    @Value("${app.similarity.max-results:40}")
+    private int maxResults;
+
+    @Value("${app.store.retry-after:30}")
+    private long retryAfterSeconds;
+
+    @Value("${app.store.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.store.max-pending:10000}")
+    private int maxPending;
+
+    private final ConcurrentHashMap<String, PendingEmbedding> pending = new ConcurrentHashMap<>();
+    private volatile long unavailableUntilMillis;
+    private volatile boolean schemaReady;
+
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong flushedRecords = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong totalQueryMillis = new AtomicLong();
+
+    private static class PendingEmbedding {
+        final String fullName;
+        final String language;
+        final float[] vector;
+
+        PendingEmbedding(String fullName, String language, float[] vector) {
+            this.fullName = fullName;
+            this.language = language;
+            this.vector = vector;
+        }
+    }
+
+    public void index(String repoId, GitHubRepository repository, RepositoryAnalysis analysis) {
+        if (!enabled) {
+            return;
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(repoId)) {
+            // pgvector uzun süredir yok: bellek sınırsız büyümesin, repo bir sonraki analizinde indekslenir
+            dropped.incrementAndGet();
+            return;
+        }
+        float[] vector = embedder.embed(embeddingText(repository, analysis));
+        pending.put(repoId, new PendingEmbedding(repository.getFullName(), repository.getLanguage(), vector));
+        indexed.incrementAndGet();
+    }
+
+    // Repo indekste yoksa boş; pgvector kullanılamıyorsa IllegalStateException
+    public Optional<List<Map<String, Object>>> findSimilar(String owner, String repo, int limit) {
+        String repoId = CacheService.canonicalRepoId(owner, repo);
+        if (!isAvailable()) {
+            throw new IllegalStateException("Benzerlik araması şu anda kullanılamıyor");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            PendingEmbedding waiting = pending.get(repoId);
+            String queryVector = waiting != null
+                ? toVectorLiteral(waiting.vector)
+                : jdbcTemplate.query("SELECT embedding::text FROM repository_embedding WHERE repo_id = ?",
+                    rs -> rs.next() ? rs.getString(1) : null, repoId);
+            if (queryVector == null) {
+                return Optional.empty();
+            }
+
+            // ORDER BY sabit vektöre göre: HNSW indeksi kullanılır
+            List<Map<String, Object>> similar = jdbcTemplate.query(
+                "SELECT repo_id, full_name, language, 1 - (embedding <=> ?::vector) AS similarity "
+                    + "FROM repository_embedding WHERE repo_id <> ? ORDER BY embedding <=> ?::vector LIMIT ?",
+                (rs, rowNum) -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("repoId", rs.getString("repo_id"));
+                    item.put("repository", rs.getString("full_name"));
+                    item.put("language", rs.getString("language"));
+                    item.put("similarity", Math.round(rs.getDouble("similarity") * 1000) / 1000.0);
+                    return item;
+                },
+                queryVector, repoId, queryVector, Math.min(limit, maxResults));
+            queries.incrementAndGet();
+            totalQueryMillis.addAndGet(System.currentTimeMillis() - startedAt);
+            return Optional.of(similar);
+        } catch (Exception e) {
+            markUnavailable(e);
+            throw new IllegalStateException("Benzerlik araması başarısız: " + e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.store.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty() || !isAvailable()) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            Map<String, PendingEmbedding> batch = drain();
+            Timestamp now = Timestamp.from(Instant.now());
+            List<Object[]> rows = new ArrayList<>();
+            batch.forEach((repoId, embedding) -> rows.add(new Object[]{
+                repoId, embedding.fullName, embedding.language, toVectorLiteral(embedding.vector), now}));
+            try {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO repository_embedding (repo_id, full_name, language, embedding, updated_at) "
+                        + "VALUES (?, ?, ?, ?::vector, ?) ON CONFLICT (repo_id) DO UPDATE SET "
+                        + "full_name = EXCLUDED.full_name, language = EXCLUDED.language, "
+                        + "embedding = EXCLUDED.embedding, updated_at = EXCLUDED.updated_at",
+                    rows);
+                flushedRecords.addAndGet(rows.size());
+            } catch (Exception e) {
+                batch.forEach(pending::putIfAbsent);
+                flushFailures.incrementAndGet();
+                markUnavailable(e);
+                return;
+            }
+        }
+    }
+
+    private Map<String, PendingEmbedding> drain() {
+        Map<String, PendingEmbedding> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, PendingEmbedding>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<String, PendingEmbedding> entry = iterator.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    // README'nin yanında dil, açıklama ve analizin özet / teknoloji bölümleri
+    private static String embeddingText(GitHubRepository repository, RepositoryAnalysis analysis) {
+        StringBuilder text = new StringBuilder();
+        append(text, repository.getName());
+        append(text, repository.getLanguage());
+        append(text, repository.getDescription());
+        append(text, analysis.getProjectSummary());
+        append(text, analysis.getUsedTechnologies());
+        String readme = repository.getReadmeContent();
+        if (readme != null) {
+            append(text, readme.length() > MAX_EMBEDDED_CHARS ? readme.substring(0, MAX_EMBEDDED_CHARS) : readme);
+        }
+        return text.toString();
+    }
+
+    private static void append(StringBuilder text, String value) {
+        if (value != null && !value.isBlank()) {
+            text.append(value).append('\n');
+        }
+    }
+
+    static String toVectorLiteral(float[] vector) {
+        StringBuilder literal = new StringBuilder(vector.length * 8).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append(vector[i]);
+        }
+        return literal.append(']').toString();
+    }
+
+    private boolean isAvailable() {
+        return enabled && System.currentTimeMillis() >= unavailableUntilMillis && ensureSchema();
+    }
+
+    private synchronized boolean ensureSchema() {
+        if (schemaReady) {
+            return true;
+        }
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource("db/similarity-schema.sql")).execute(dataSource);
+            schemaReady = true;
+            return true;
+        } catch (Exception e) {
+            markUnavailable(e);
+            return false;
+        }
+    }
+
+    private void markUnavailable(Exception e) {
+        unavailableUntilMillis = System.currentTimeMillis() + retryAfterSeconds * 1000;
+        System.err.println("Benzerlik indeksi (pgvector) hatası, " + retryAfterSeconds + " sn devre dışı: " + e.getMessage());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long queryCount = queries.get();
+        stats.put("enabled", enabled);
+        stats.put("available", enabled && schemaReady && System.currentTimeMillis() >= unavailableUntilMillis);
+        stats.put("pending", pending.size());
+        stats.put("indexed", indexed.get());
+        stats.put("flushedRecords", flushedRecords.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("dropped", dropped.get());
+        stats.put("queries", queryCount);
+        stats.put("avgQueryMs", queryCount == 0 ? 0 : totalQueryMillis.get() / queryCount);
+        return stats;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.githubList.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Çevrimdışı metin vektörleştirici (hashing trick): kelime ve kelime ikilileri sabit boyutlu bir
+// vektöre hash'lenir, frekanslar log ile yumuşatılır ve vektör L2 normalize edilir.
+// Model dosyası veya dış servis gerekmez; aynı metin her zaman aynı vektörü verir.
+@Component
+public class TextEmbedder {
+
+    // db/similarity-schema.sql'deki vector(256) ile aynı olmalı
+    public static final int DIMENSIONS = 256;
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}][\\p{L}\\p{N}+#.-]*[\\p{L}\\p{N}+#]|[\\p{L}]");
+    private static final Set<String> STOP_WORDS = Set.of(
+        "the", "and", "for", "with", "this", "that", "you", "your", "are", "can", "from", "use", "using",
+        "not", "all", "will", "has", "have", "its", "was", "but", "our", "how", "see", "also", "more",
+        "bir", "ve", "ile", "için", "bu", "da", "de", "olarak", "gibi", "çok", "daha");
+
+    public float[] embed(String text) {
+        float[] vector = new float[DIMENSIONS];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+        String previous = null;
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (token.length() < 2 || STOP_WORDS.contains(token)) {
+                previous = null;
+                continue;
+            }
+            counts.merge(token, 1, Integer::sum);
+            if (previous != null) {
+                counts.merge(previous + " " + token, 1, Integer::sum);
+            }
+            previous = token;
+        }
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            int hash = mix(entry.getKey().hashCode());
+            int index = Math.floorMod(hash, DIMENSIONS);
+            // İşaret ayrı bir bitten: çakışan özellikler ortalamada birbirini götürür
+            float sign = (hash & 0x40000000) == 0 ? 1f : -1f;
+            vector[index] += sign * (float) (1 + Math.log(entry.getValue()));
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    // String.hashCode'un düşük bitleri zayıf dağılır; murmur3 finalizer ile karıştırılır
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
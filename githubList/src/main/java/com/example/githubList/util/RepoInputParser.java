@@ -0,0 +1,57 @@
+package com.example.githubList.util;
+
+// Kullanıcının girdiği repository bilgisini [owner, repo] olarak çözer
+public final class RepoInputParser {
+
+    public static final String INVALID_FORMAT_MESSAGE = "Geçersiz repository formatı. Desteklenen formatlar: 1) https://github.com/owner/repo.git 2) owner/repo 3) repo-adı (varsayılan owner: Baranll0)";
+
+    private RepoInputParser() {}
+
+    // Desteklenen formatlar: GitHub URL, owner/repo, sadece repo adı
+    public static String[] parse(String repoInput) {
+        if (repoInput == null || repoInput.trim().isEmpty()) {
+            return null;
+        }
+
+        String input = repoInput.trim();
+
+        // 1. GitHub URL formatı: https://github.com/owner/repo.git veya https://github.com/owner/repo
+        if (input.startsWith("https://github.com/")) {
+            String path = input.substring("https://github.com/".length());
+            // .git uzantısını kaldır
+            if (path.endsWith(".git")) {
+                path = path.substring(0, path.length() - 4);
+            }
+            String[] parts = path.split("/");
+            if (parts.length >= 2) {
+                return new String[]{parts[0], parts[1]};
+            }
+        }
+
+        // 2. owner/repo formatı
+        if (input.contains("/")) {
+            String[] parts = input.split("/");
+            if (parts.length == 2) {
+                // .git uzantısını kaldır
+                String repo = parts[1];
+                if (repo.endsWith(".git")) {
+                    repo = repo.substring(0, repo.length() - 4);
+                    parts[1] = repo;
+                }
+                return parts;
+            }
+        }
+
+        // 3. Sadece repo adı formatı (varsayılan owner: Baranll0)
+        if (!input.contains("/") && !input.startsWith("http")) {
+            // .git uzantısını kaldır
+            if (input.endsWith(".git")) {
+                input = input.substring(0, input.length() - 4);
+            }
+            // Varsayılan owner olarak "Baranll0" kullan
+            return new String[]{"Baranll0", input};
+        }
+
+        return null;
+    }
+}
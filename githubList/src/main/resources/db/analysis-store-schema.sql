@@ -0,0 +1,37 @@
+-- AnalysisStore tabloları; her çalıştırmada güvenle tekrar uygulanabilir (IF NOT EXISTS)
+CREATE SEQUENCE IF NOT EXISTS analysis_record_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS repository_record_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS repository_analysis (
+    id BIGINT PRIMARY KEY,
+    repo_id VARCHAR(200) NOT NULL,
+    fingerprint VARCHAR(64),
+    prompt_version INTEGER NOT NULL,
+    technology_quality INTEGER NOT NULL,
+    learning_value INTEGER NOT NULL,
+    career_growth INTEGER NOT NULL,
+    community_activity INTEGER NOT NULL,
+    recency INTEGER NOT NULL,
+    average_score DOUBLE PRECISION NOT NULL,
+    payload TEXT NOT NULL,
+    cached_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_analysis_repo_id ON repository_analysis (repo_id);
+CREATE INDEX IF NOT EXISTS idx_analysis_cached_at ON repository_analysis (cached_at);
+
+CREATE TABLE IF NOT EXISTS github_repository (
+    id BIGINT PRIMARY KEY,
+    repo_id VARCHAR(200) NOT NULL,
+    github_id BIGINT,
+    full_name VARCHAR(200),
+    description TEXT,
+    language VARCHAR(100),
+    stars INTEGER,
+    forks INTEGER,
+    pushed_at TIMESTAMP(6),
+    html_url VARCHAR(300),
+    fetched_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_repository_repo_id ON github_repository (repo_id);
+CREATE INDEX IF NOT EXISTS idx_repository_fetched_at ON github_repository (fetched_at);
@@ -0,0 +1,13 @@
+-- Benzer repo araması (pgvector); boyut TextEmbedder.DIMENSIONS ile aynı olmalı
+CREATE EXTENSION IF NOT EXISTS vector;
+
+CREATE TABLE IF NOT EXISTS repository_embedding (
+    repo_id VARCHAR(200) PRIMARY KEY,
+    full_name VARCHAR(200),
+    language VARCHAR(100),
+    embedding vector(256) NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+-- Vektörler normalize, kosinüs mesafesi; HNSW sorgu süresi korpus büyüdükçe logaritmik artar
+CREATE INDEX IF NOT EXISTS idx_repository_embedding_hnsw
+    ON repository_embedding USING hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64);
@@ -0,0 +1,59 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisCodecTests {
+
+	@Test
+	void multiLineFieldsSurviveRoundTrip() {
+		RepositoryAnalysis analysis = new RepositoryAnalysis();
+		analysis.setTechnologyQuality(85);
+		analysis.setRecency(40);
+		analysis.setRepositoryName("owner/repo");
+		analysis.setImprovementRecommendations("**🔧 Teknoloji:**\n- Öneri 1\n- Öneri 2");
+		analysis.setUsedTechnologies("- Java\n- Spring Boot");
+
+		Map<Object, Object> stored = new LinkedHashMap<>(AnalysisCodec.encode(analysis));
+		RepositoryAnalysis decoded = AnalysisCodec.decode(stored);
+
+		assertEquals(85, decoded.getTechnologyQuality());
+		assertEquals(40, decoded.getRecency());
+		assertEquals("owner/repo", decoded.getRepositoryName());
+		assertEquals("**🔧 Teknoloji:**\n- Öneri 1\n- Öneri 2", decoded.getImprovementRecommendations());
+		assertEquals("- Java\n- Spring Boot", decoded.getUsedTechnologies());
+		assertNull(decoded.getTargetAudience());
+		assertTrue(decoded.getUsedTechnologiesHtml().contains("<li>Java</li>"));
+		assertEquals("", decoded.getTargetAudienceHtml());
+	}
+
+	@Test
+	void scoresDecodeFromHmgetValues() {
+		RepositoryAnalysis scores = AnalysisCodec.decodeScores(
+			Arrays.asList(AnalysisCodec.SCHEMA_VERSION, 70, 80, 60, 50, 90, 1700000000000L));
+
+		assertNotNull(scores);
+		assertEquals(80, scores.getLearningValue());
+		assertEquals(90, scores.getRecency());
+		assertEquals(1700000000000L, scores.getCachedAt());
+		assertNull(AnalysisCodec.decodeScores(Arrays.asList(null, null, null, null, null, null, null)));
+		// Yazılma zamanı olmayan eski kayıt
+		assertNull(AnalysisCodec.decodeScores(
+			Arrays.asList(AnalysisCodec.SCHEMA_VERSION, 70, 80, 60, 50, 90, null)).getCachedAt());
+	}
+
+	@Test
+	void legacyLineFormatIsReadable() {
+		RepositoryAnalysis analysis = AnalysisCodec.decodeLegacy("TECH:75\nLEARN:65\nREPO:owner/repo\nURL:https://github.com/owner/repo");
+
+		assertEquals(75, analysis.getTechnologyQuality());
+		assertEquals(65, analysis.getLearningValue());
+		assertEquals("owner/repo", analysis.getRepositoryName());
+	}
+}
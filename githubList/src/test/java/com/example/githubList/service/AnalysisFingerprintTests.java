@@ -0,0 +1,38 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisFingerprintTests {
+
+	@Test
+	void readmeShaMatchesGitBlobSha() {
+		// printf 'hello world\n' | git hash-object --stdin
+		assertEquals("3b18e512dba79e4c8300dd08aeb37f8e728b8dad", AnalysisFingerprint.readmeSha("hello world\n"));
+	}
+
+	@Test
+	void fingerprintIgnoresSmallPopularityChangesButNotPromptVersion() {
+		GitHubRepository repository = repository(1000);
+		String fingerprint = AnalysisFingerprint.of(repository, 1);
+
+		assertEquals(fingerprint, AnalysisFingerprint.of(repository(1010), 1));
+		assertNotEquals(fingerprint, AnalysisFingerprint.of(repository(2100), 1));
+		assertNotEquals(fingerprint, AnalysisFingerprint.of(repository, 2));
+	}
+
+	private static GitHubRepository repository(int stars) {
+		GitHubRepository repository = new GitHubRepository();
+		repository.setFullName("spring-projects/spring-boot");
+		repository.setLanguage("Java");
+		repository.setStargazersCount(stars);
+		repository.setForksCount(40);
+		repository.setUpdatedAt(LocalDateTime.now().minusDays(3));
+		repository.setReadmeContent("# Spring Boot\n");
+		return repository;
+	}
+}
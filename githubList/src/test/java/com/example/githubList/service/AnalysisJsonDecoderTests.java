@@ -0,0 +1,38 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisJsonDecoderTests {
+
+	@Test
+	void decodesStructuredResponse() {
+		String json = "{\"generalRecommendation\":\"Genel öneri\",\"technologyQuality\":85,"
+				+ "\"technologyQualityDescription\":\"İyi\",\"learningValue\":\"70/100\",\"careerGrowth\":120,"
+				+ "\"communityActivity\":40,\"recency\":90,\"extra\":{\"ignored\":[1,2]},"
+				+ "\"usedTechnologies\":[\"Java\",\"Spring Boot\"],\"targetAudience\":null}";
+
+		RepositoryAnalysis analysis = AnalysisJsonDecoder.decode(json);
+
+		assertEquals(85, analysis.getTechnologyQuality());
+		assertEquals(70, analysis.getLearningValue());
+		assertEquals(100, analysis.getCareerGrowth());
+		assertEquals(40, analysis.getCommunityActivity());
+		assertEquals(90, analysis.getRecency());
+		assertEquals("Genel öneri", analysis.getGeneralRecommendation());
+		assertEquals("- Java\n- Spring Boot", analysis.getUsedTechnologies());
+		assertNull(analysis.getTargetAudience());
+	}
+
+	@Test
+	void rejectsMissingScores() {
+		assertThrows(IllegalArgumentException.class,
+				() -> AnalysisJsonDecoder.decode("{\"technologyQuality\":85,\"learningValue\":70}"));
+		assertThrows(IllegalArgumentException.class, () -> AnalysisJsonDecoder.decode("Üzgünüm, yapamam"));
+		// Tekrarlanan alan eksik puanı kapatmaz
+		assertThrows(IllegalArgumentException.class, () -> AnalysisJsonDecoder.decode(
+				"{\"recency\":1,\"recency\":2,\"recency\":3,\"learningValue\":4,\"careerGrowth\":5}"));
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisResponseParserTests {
+
+	private static final String RESPONSE = String.join("\n",
+		"# Repository Analizi",
+		"",
+		"## 💡 Genel Öneri ve Değerlendirme",
+		"README'de gördüğüm kadarıyla bu proje...",
+		"",
+		"İkinci paragraf.",
+		"",
+		"## 📋 Proje Özeti",
+		"Bu proje bir örnek uygulamadır.",
+		"",
+		"## 📊 Puanlama Tablosu",
+		"",
+		"| Kategori | Puan | Açıklama |",
+		"|----------|------|----------|",
+		"| 🔧 Teknoloji Kalitesi | **85/100** | Temiz mimari |",
+		"| 📚 Öğrenme Değeri | **72/100** | İyi dokümantasyon |",
+		"| 💼 Kariyer Gelişimi | 64/100 | Popüler teknolojiler |",
+		"| 👥 Topluluk Aktifliği | **30/100** | Az yıldız |",
+		"| ⏰ Güncellik | 95 | 3 gün içinde commit yapılmış |",
+		"",
+		"## 🎯 Detaylı İyileştirme Önerileri",
+		"",
+		"**🔧 Teknoloji Kalitesi İyileştirmeleri:**",
+		"- Testler eklenebilir.",
+		"",
+		"## 🛠️ Kullanılan Teknolojiler",
+		"- Java",
+		"- Spring Boot",
+		"",
+		"## 🎓 Hedef Kitle",
+		"Orta seviye geliştiriciler");
+
+	@Test
+	void parsesScoresAndSections() {
+		RepositoryAnalysis analysis = AnalysisResponseParser.parse(RESPONSE);
+
+		assertEquals(85, analysis.getTechnologyQuality());
+		assertEquals(72, analysis.getLearningValue());
+		assertEquals(64, analysis.getCareerGrowth());
+		assertEquals(30, analysis.getCommunityActivity());
+		assertEquals(95, analysis.getRecency());
+		assertEquals("Temiz mimari", analysis.getTechnologyQualityDescription());
+		assertEquals("README'de gördüğüm kadarıyla bu proje...\n\nİkinci paragraf.", analysis.getGeneralRecommendation());
+		assertEquals("Bu proje bir örnek uygulamadır.", analysis.getProjectSummary());
+		assertEquals("**🔧 Teknoloji Kalitesi İyileştirmeleri:**\n- Testler eklenebilir.", analysis.getImprovementRecommendations());
+		assertEquals("- Java\n- Spring Boot", analysis.getUsedTechnologies());
+		assertEquals("Orta seviye geliştiriciler", analysis.getTargetAudience());
+	}
+
+	@Test
+	void chunkedInputMatchesWholeInput() {
+		AnalysisResponseParser parser = new AnalysisResponseParser();
+		for (int i = 0; i < RESPONSE.length(); i += 7) {
+			parser.accept(RESPONSE.substring(i, Math.min(RESPONSE.length(), i + 7)));
+		}
+		RepositoryAnalysis streamed = parser.finish();
+		RepositoryAnalysis whole = AnalysisResponseParser.parse(RESPONSE);
+
+		assertEquals(5, parser.getScoresFound());
+		assertEquals(whole.getAverageScore(), streamed.getAverageScore());
+		assertEquals(whole.getImprovementRecommendations(), streamed.getImprovementRecommendations());
+		assertEquals(whole.getTargetAudience(), streamed.getTargetAudience());
+	}
+
+	@Test
+	void missingScoreFailsTheAnalysis() {
+		String broken = "| Kategori | Puan | Açıklama |\n| 🔧 Teknoloji Kalitesi | yüksek | - |\n";
+		assertThrows(RuntimeException.class, () -> AnalysisResponseParser.parse(broken));
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheServiceTests {
+
+	private static final String REPO_KEY = RepositoryAnalysisService.analysisCacheKey("octo", "repo");
+
+	private CacheService cacheService;
+	private RedisTemplate<String, Object> redisTemplate;
+	private HashOperations<String, Object, Object> hashOps;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		hashOps = mock(HashOperations.class);
+		when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOps);
+		doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+		cacheService = new CacheService(redisTemplate, new ObjectMapper(), 1024, 100, 300);
+	}
+
+	@Test
+	void l1HitReturnsACopyCallersCannotCorrupt() {
+		RepositoryAnalysis analysis = analysis(80);
+		cacheService.cacheAnalysis(REPO_KEY, analysis);
+		// Yazan taraf kendi nesnesini değiştirmeye devam eder (ör. puan düzeltmesi)
+		analysis.setTechnologyQuality(10);
+
+		RepositoryAnalysis first = cacheService.getCachedAnalysis(REPO_KEY).orElseThrow();
+		first.setTechnologyQuality(0);
+		RepositoryAnalysis second = cacheService.getCachedAnalysis(REPO_KEY).orElseThrow();
+
+		assertNotSame(first, second);
+		assertEquals(80, second.getTechnologyQuality());
+		assertEquals(80, cacheService.getCachedScores(REPO_KEY).orElseThrow().getTechnologyQuality());
+		verifyNoInteractions(hashOps);
+	}
+
+	@Test
+	void invalidationFromAnotherNodeEvictsL1() {
+		cacheService.cacheAnalysis(REPO_KEY, analysis(80));
+		when(hashOps.entries("github:summary:" + REPO_KEY)).thenReturn(Map.of());
+
+		byte[] payload = ("other-node|github:summary:" + REPO_KEY).getBytes(StandardCharsets.UTF_8);
+		cacheService.onMessage(new DefaultMessage(CacheService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), payload), null);
+
+		// L1 boşaldı: Redis'e gidilir, orada da kayıt yok
+		assertTrue(cacheService.getCachedAnalysis(REPO_KEY).isEmpty());
+		verify(hashOps).entries("github:summary:" + REPO_KEY);
+	}
+
+	private static RepositoryAnalysis analysis(int technologyQuality) {
+		RepositoryAnalysis analysis = new RepositoryAnalysis();
+		analysis.setRepositoryName("octo/repo");
+		analysis.setTechnologyQuality(technologyQuality);
+		analysis.setLearningValue(70);
+		analysis.setCareerGrowth(60);
+		analysis.setCommunityActivity(50);
+		analysis.setRecency(40);
+		return analysis;
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.CachedResponse;
+import com.example.githubList.model.GitHubRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class GitHubApiServiceTests {
+
+	private static final String GRAPHQL_URL = "https://api.github.com/graphql";
+
+	private GitHubApiService githubApiService;
+	private MockRestServiceServer server;
+	private CacheService cacheService;
+
+	@BeforeEach
+	void setUp() {
+		RestTemplate restTemplate = new RestTemplate();
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+		cacheService = mock(CacheService.class);
+		GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor();
+		ReflectionTestUtils.setField(governor, "configuredLimit", 5000);
+		githubApiService = new GitHubApiService(restTemplate, cacheService, governor);
+		ReflectionTestUtils.setField(githubApiService, "githubToken", "test-token");
+		ReflectionTestUtils.setField(githubApiService, "graphqlBatchSize", 50);
+	}
+
+	@Test
+	void buildsSearchQualifiersFromLanguage() {
+		assertEquals("web framework language:Java", GitHubApiService.buildSearchQuery("Java", " web framework "));
+		assertEquals("language:\"Jupyter Notebook\"", GitHubApiService.buildSearchQuery("Jupyter Notebook", null));
+		assertEquals("cli", GitHubApiService.buildSearchQuery(" ", "cli"));
+	}
+
+	@Test
+	void graphQlThrottleStopsBatchWithoutRestFallback() {
+		server.expect(requestTo(GRAPHQL_URL)).andExpect(method(HttpMethod.POST))
+			.andRespond(withSuccess("{\"data\":null,\"errors\":[{\"type\":\"RATE_LIMITED\",\"message\":\"API rate limit exceeded\"}]}",
+				MediaType.APPLICATION_JSON));
+
+		assertThrows(GitHubRateLimitException.class,
+			() -> githubApiService.getRepositories(List.of(new String[]{"octo", "a"}, new String[]{"octo", "b"})));
+		// Beklenmeyen REST isteği olsaydı MockRestServiceServer AssertionError fırlatırdı
+		server.verify();
+	}
+
+	@Test
+	void graphQlForbiddenWithExhaustedQuotaPropagates() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-RateLimit-Resource", "graphql");
+		headers.set("X-RateLimit-Remaining", "0");
+		headers.set("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(600).getEpochSecond()));
+		server.expect(requestTo(GRAPHQL_URL)).andRespond(withStatus(HttpStatus.FORBIDDEN).headers(headers));
+
+		assertThrows(GitHubRateLimitException.class,
+			() -> githubApiService.getRepositories(List.<String[]>of(new String[]{"octo", "a"})));
+		server.verify();
+	}
+
+	@Test
+	void onlyNotFoundAliasesFallBackToRest() {
+		server.expect(requestTo(GRAPHQL_URL))
+			.andRespond(withSuccess("{\"data\":{\"r0\":{\"databaseId\":1,\"name\":\"a\",\"nameWithOwner\":\"octo/a\","
+				+ "\"url\":\"https://github.com/octo/a\"},\"r1\":null},"
+				+ "\"errors\":[{\"type\":\"NOT_FOUND\",\"path\":[\"r1\"],\"message\":\"Could not resolve\"}]}",
+				MediaType.APPLICATION_JSON));
+		server.expect(requestTo("https://api.github.com/repos/octo/b"))
+			.andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+		Map<String, GitHubRepository> result = githubApiService.getRepositories(
+			List.of(new String[]{"octo", "a"}, new String[]{"octo", "b"}));
+
+		assertEquals(List.of("octo/a"), List.copyOf(result.keySet()));
+		server.verify();
+	}
+
+	@Test
+	void notModifiedReusesStoredBodyWithoutRewritingIt() {
+		String stored = "{\"id\":7,\"name\":\"repo\",\"full_name\":\"octo/repo\",\"html_url\":\"https://github.com/octo/repo\"}";
+		when(cacheService.getValidatedResponse("repo", "octo", "repo"))
+			.thenReturn(Optional.of(new CachedResponse("\"abc\"", "Tue, 01 Oct 2024 10:00:00 GMT", stored)));
+		server.expect(requestTo("https://api.github.com/repos/octo/repo"))
+			.andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+			.andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, "Tue, 01 Oct 2024 10:00:00 GMT"))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		GitHubRepository repository = githubApiService.getRepositoryMetadata("octo", "repo");
+
+		server.verify();
+		assertEquals("octo/repo", repository.getFullName());
+		verify(cacheService, never()).cacheValidatedResponse(any(), any(), any(), any());
+	}
+
+	@Test
+	void modifiedResponseStoresItsValidator() {
+		String body = "{\"id\":7,\"name\":\"repo\",\"full_name\":\"octo/repo\",\"html_url\":\"https://github.com/octo/repo\"}";
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"def\"");
+		server.expect(requestTo("https://api.github.com/repos/octo/repo"))
+			.andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+			.andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(headers));
+
+		assertEquals("octo/repo", githubApiService.getRepositoryMetadata("octo", "repo").getFullName());
+
+		server.verify();
+		verify(cacheService).cacheValidatedResponse(eq("repo"), eq("octo"), eq("repo"),
+			argThat(response -> "\"def\"".equals(response.getEtag()) && body.equals(response.getBody())));
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubRateLimitGovernorTests {
+
+	private GitHubRateLimitGovernor governor;
+
+	@BeforeEach
+	void setUp() {
+		governor = new GitHubRateLimitGovernor();
+		ReflectionTestUtils.setField(governor, "configuredLimit", 5000);
+		ReflectionTestUtils.setField(governor, "searchLimit", 30);
+		ReflectionTestUtils.setField(governor, "interactiveReservePercent", 10);
+		ReflectionTestUtils.setField(governor, "interactiveMaxWaitSeconds", 0L);
+		ReflectionTestUtils.setField(governor, "backgroundMaxWaitSeconds", 0L);
+	}
+
+	@Test
+	void failsFastWithResetTimeWhenBudgetIsGone() {
+		long resetEpochSeconds = Instant.now().plusSeconds(600).getEpochSecond();
+		governor.update(headers("5000", "0", resetEpochSeconds));
+
+		GitHubRateLimitException e = assertThrows(GitHubRateLimitException.class, () -> governor.acquire("core"));
+		assertEquals(resetEpochSeconds, e.getRetryAt().getEpochSecond());
+	}
+
+	@Test
+	void backgroundLeavesReserveForInteractive() {
+		governor.update(headers("100", "10", Instant.now().plusSeconds(600).getEpochSecond()));
+
+		assertThrows(GitHubRateLimitException.class, () -> RequestPriority.callAs(RequestPriority.BACKGROUND, () -> {
+			governor.acquire("core");
+			return null;
+		}));
+		governor.acquire("core");
+
+		@SuppressWarnings("unchecked")
+		Map<String, Object> core = (Map<String, Object>) governor.getStats().get("core");
+		assertEquals(9, core.get("remaining"));
+	}
+
+	@Test
+	void reportsRemainingPercentFromHeaders() {
+		governor.update(headers("5000", "1250", Instant.now().plusSeconds(600).getEpochSecond()));
+
+		assertEquals(25, governor.remainingPercent("core"));
+		assertEquals(100, governor.remainingPercent("search"));
+	}
+
+	@Test
+	void lateResponseInSameWindowDoesNotRestoreSpentCalls() {
+		long resetEpochSeconds = Instant.now().plusSeconds(600).getEpochSecond();
+		governor.update(headers("5000", "100", resetEpochSeconds));
+		governor.acquire("core");
+		governor.acquire("core");
+		// İki istekten önce gönderilmiş, geç dönen bir yanıt
+		governor.update(headers("5000", "100", resetEpochSeconds));
+		assertEquals(98, coreRemaining());
+
+		governor.update(headers("5000", "95", resetEpochSeconds));
+		assertEquals(95, coreRemaining());
+
+		// Yeni pencere: GitHub'ın sayısı geçerli
+		governor.update(headers("5000", "4999", resetEpochSeconds + 3600));
+		assertEquals(4999, coreRemaining());
+		// Önceki pencereden kalan yanıt yok sayılır
+		governor.update(headers("5000", "90", resetEpochSeconds));
+		assertEquals(4999, coreRemaining());
+	}
+
+	@Test
+	void searchStartsWithItsOwnLimitBeforeAnyHeader() {
+		for (int i = 0; i < 30; i++) {
+			governor.acquire("search");
+		}
+		GitHubRateLimitException e = assertThrows(GitHubRateLimitException.class, () -> governor.acquire("search"));
+		// Dakikalık pencere
+		assertTrue(e.getRetryAt().isBefore(Instant.now().plusSeconds(61)));
+		governor.acquire("core");
+	}
+
+	@SuppressWarnings("unchecked")
+	private int coreRemaining() {
+		return (int) ((Map<String, Object>) governor.getStats().get("core")).get("remaining");
+	}
+
+	private static HttpHeaders headers(String limit, String remaining, long resetEpochSeconds) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-RateLimit-Limit", limit);
+		headers.set("X-RateLimit-Remaining", remaining);
+		headers.set("X-RateLimit-Reset", String.valueOf(resetEpochSeconds));
+		return headers;
+	}
+}
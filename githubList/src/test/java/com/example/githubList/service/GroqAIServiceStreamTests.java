@@ -0,0 +1,76 @@
+package com.example.githubList.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Groq chat completions "stream: true" yanıtını taklit eden yerel SSE stub'ı ile
+class GroqAIServiceStreamTests {
+
+	private HttpServer server;
+	private GroqAIService groqAIService;
+
+	@BeforeEach
+	void startStub() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/openai/v1/chat/completions", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream body = exchange.getResponseBody()) {
+				for (String token : new String[]{"## 📊 Puanlama", " Tablosu\n| Kategori | Puan | Açıklama |\n",
+						"| 🔧 Teknoloji Kalitesi | **8", "0/100** | İyi |\n", "\n## 🎓 Hedef Kitle\nHerkes"}) {
+					String json = "{\"choices\":[{\"delta\":{\"content\":" + quote(token) + "}}]}";
+					body.write(("data: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+					body.flush();
+				}
+				body.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+			}
+		});
+		server.start();
+
+		GroqRequestScheduler scheduler = new GroqRequestScheduler();
+		ReflectionTestUtils.setField(scheduler, "requestsPerMinute", 30);
+		ReflectionTestUtils.setField(scheduler, "tokensPerMinute", 6000);
+		groqAIService = new GroqAIService(new RestTemplate(), scheduler);
+		ReflectionTestUtils.setField(groqAIService, "groqApiKey", "test-key");
+		ReflectionTestUtils.setField(groqAIService, "groqApiUrl",
+			"http://localhost:" + server.getAddress().getPort() + "/openai/v1/chat/completions");
+	}
+
+	@AfterEach
+	void stopStub() {
+		server.stop(0);
+	}
+
+	@Test
+	void relaysDeltasAndReturnsFullResponse() {
+		List<String> tokens = new ArrayList<>();
+		AnalysisResponseParser parser = new AnalysisResponseParser();
+
+		String response = groqAIService.streamAnalysis("owner/repo", null, "Java", 1, 1, null, null, token -> {
+			tokens.add(token);
+			parser.accept(token);
+		});
+
+		assertEquals(5, tokens.size());
+		assertEquals(String.join("", tokens), response);
+		assertEquals(80, parser.finish().getTechnologyQuality());
+		assertEquals("Herkes", parser.getPartialAnalysis().getTargetAudience());
+	}
+
+	private static String quote(String text) {
+		return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroqRequestSchedulerTests {
+
+	private GroqRequestScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new GroqRequestScheduler();
+		ReflectionTestUtils.setField(scheduler, "requestsPerMinute", 30);
+		ReflectionTestUtils.setField(scheduler, "tokensPerMinute", 6000);
+		ReflectionTestUtils.setField(scheduler, "interactiveReservePercent", 20);
+		ReflectionTestUtils.setField(scheduler, "interactiveMaxWaitSeconds", 5L);
+		ReflectionTestUtils.setField(scheduler, "backgroundMaxWaitSeconds", 0L);
+		ReflectionTestUtils.setField(scheduler, "maxRetries", 3);
+	}
+
+	@Test
+	void retriesAfterTooManyRequests() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("retry-after", "0.05");
+
+		String result = scheduler.execute(100, () -> {
+			if (calls.incrementAndGet() == 1) {
+				throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+			}
+			return "ok";
+		});
+
+		assertEquals("ok", result);
+		assertEquals(2, calls.get());
+		assertEquals(1L, scheduler.getStats().get("throttledResponses"));
+	}
+
+	@Test
+	void backgroundDoesNotUseInteractiveReserve() throws Exception {
+		scheduler.execute(4000, () -> "interactive");
+
+		// 4000 + 1000 > 6000 * %80: toplu iş beklemek zorunda, bekleme süresi 0 olduğu için reddedilir
+		assertThrows(IllegalStateException.class, () -> RequestPriority.callAs(RequestPriority.BACKGROUND, () -> {
+			try {
+				return scheduler.execute(1000, () -> "background");
+			} catch (IllegalStateException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}));
+		assertEquals("interactive", scheduler.execute(1000, () -> "interactive"));
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HotKeyWarmerTests {
+
+	@Test
+	void offPeakWindowMayWrapAroundMidnight() {
+		assertTrue(HotKeyWarmer.isOffPeak(3, 1, 7));
+		assertFalse(HotKeyWarmer.isOffPeak(7, 1, 7));
+		assertTrue(HotKeyWarmer.isOffPeak(23, 22, 6));
+		assertTrue(HotKeyWarmer.isOffPeak(2, 22, 6));
+		assertFalse(HotKeyWarmer.isOffPeak(12, 22, 6));
+		assertFalse(HotKeyWarmer.isOffPeak(5, 5, 5));
+	}
+
+	@Test
+	void analysisCacheKeyIsCaseInsensitiveAndUnambiguous() {
+		assertEquals(RepositoryAnalysisService.analysisCacheKey("spring-projects", "spring-boot"),
+			RepositoryAnalysisService.analysisCacheKey("Spring-Projects", "Spring-Boot"));
+		assertNotEquals(RepositoryAnalysisService.analysisCacheKey("a_b", "c"),
+			RepositoryAnalysisService.analysisCacheKey("a", "b_c"));
+	}
+
+	@Test
+	void warmerChecksTheEntryMixedCaseRequestsWrite() {
+		CacheService cacheService = mock(CacheService.class);
+		RepositoryAnalysis fresh = new RepositoryAnalysis();
+		when(cacheService.getCachedAnalysis(anyString())).thenReturn(Optional.of(fresh));
+		when(cacheService.getCachedScores(anyString())).thenReturn(Optional.of(fresh));
+		when(cacheService.getCachedRepository(anyString(), anyString())).thenReturn(Optional.of(new GitHubRepository()));
+		when(cacheService.getHotRepos(anyInt())).thenReturn(List.of("spring-projects/spring-boot"));
+		when(cacheService.getRepositoryTtl(anyString(), anyString())).thenReturn(3600L);
+		when(cacheService.secondsUntilExpiry(fresh)).thenReturn(3600L);
+		when(cacheService.secondsUntilStale(fresh)).thenReturn(3600L);
+
+		RepositoryAnalysisService analysisService = spy(new RepositoryAnalysisService());
+		ReflectionTestUtils.setField(analysisService, "cacheService", cacheService);
+		analysisService.analyze("Spring-Projects", "Spring-Boot");
+
+		HotKeyWarmer warmer = new HotKeyWarmer();
+		GitHubRateLimitGovernor rateLimitGovernor = mock(GitHubRateLimitGovernor.class);
+		when(rateLimitGovernor.remainingPercent("core")).thenReturn(100);
+		ReflectionTestUtils.setField(warmer, "cacheService", cacheService);
+		ReflectionTestUtils.setField(warmer, "analysisService", analysisService);
+		ReflectionTestUtils.setField(warmer, "rateLimitGovernor", rateLimitGovernor);
+		ReflectionTestUtils.setField(warmer, "groqRequestScheduler", mock(GroqRequestScheduler.class));
+		ReflectionTestUtils.setField(warmer, "enabled", true);
+		ReflectionTestUtils.setField(warmer, "topN", 10);
+		ReflectionTestUtils.setField(warmer, "maxPerRun", 10);
+		ReflectionTestUtils.setField(warmer, "leadSeconds", 900L);
+		ReflectionTestUtils.setField(warmer, "zone", "");
+		warmer.run();
+
+		ArgumentCaptor<String> requestKey = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> warmerKey = ArgumentCaptor.forClass(String.class);
+		verify(cacheService).getCachedAnalysis(requestKey.capture());
+		verify(cacheService).getCachedScores(warmerKey.capture());
+		assertEquals(requestKey.getValue(), warmerKey.getValue());
+		// Kullanıcının kaydı taze olduğu için ayrı bir küçük harfli kayıt ısıtılmaz
+		verify(analysisService, never()).warm(anyString(), anyString(), anyBoolean(), anyBoolean());
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LeaderboardServiceTests {
+
+	@Test
+	void compositeUsesConfiguredWeights() {
+		LeaderboardService leaderboard = new LeaderboardService(null);
+		ReflectionTestUtils.setField(leaderboard, "compositeWeights", new int[]{25, 25, 20, 15, 15});
+
+		RepositoryAnalysis analysis = new RepositoryAnalysis();
+		analysis.setTechnologyQuality(80);
+		analysis.setLearningValue(60);
+		analysis.setCareerGrowth(50);
+		analysis.setCommunityActivity(100);
+		analysis.setRecency(0);
+
+		// (80*25 + 60*25 + 50*20 + 100*15 + 0*15) / 100
+		assertEquals(60.0, leaderboard.composite(analysis));
+	}
+
+	@Test
+	void languageKeyIsCaseInsensitive() {
+		assertEquals("c++", LeaderboardService.languageKey("C++"));
+		assertEquals("jupyter-notebook", LeaderboardService.languageKey("Jupyter Notebook"));
+		assertEquals("unknown", LeaderboardService.languageKey(null));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void emptyStoreIsQueriedOnceAndRequestsOnlyReadSortedSets() {
+		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, Object> valueOps = mock(ValueOperations.class);
+		ZSetOperations<String, Object> zSetOps = mock(ZSetOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOps);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+		when(valueOps.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+		when(redisTemplate.hasKey("github:leaderboard:built")).thenReturn(false, true);
+		when(zSetOps.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenReturn(Set.of());
+		when(zSetOps.zCard(anyString())).thenReturn(0L);
+
+		AnalysisStore analysisStore = mock(AnalysisStore.class);
+		when(analysisStore.findScores(anyInt(), anyInt())).thenReturn(List.of());
+		LeaderboardService leaderboard = new LeaderboardService(redisTemplate);
+		ReflectionTestUtils.setField(leaderboard, "analysisStore", analysisStore);
+
+		leaderboard.rebuildIfMissing();
+		leaderboard.rebuildIfMissing();
+		Map<String, Object> board = leaderboard.top(null, LeaderboardService.COMPOSITE, 0, 20);
+
+		// Boş depo için de işaret yazılır; sonraki kontroller ve istekler DB'ye gitmez
+		verify(analysisStore, times(1)).findScores(anyInt(), anyInt());
+		verify(valueOps).set("github:leaderboard:built", 0);
+		assertEquals(0L, board.get("total"));
+		assertEquals(false, board.get("rebuilding"));
+	}
+}
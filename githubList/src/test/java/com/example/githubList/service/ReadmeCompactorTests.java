@@ -0,0 +1,52 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadmeCompactorTests {
+
+	private ReadmeCompactor compactor;
+
+	@BeforeEach
+	void setUp() {
+		compactor = new ReadmeCompactor();
+		ReflectionTestUtils.setField(compactor, "tokenBudget", 1500);
+		ReflectionTestUtils.setField(compactor, "codeMaxLines", 2);
+		ReflectionTestUtils.setField(compactor, "listMaxItems", 10);
+	}
+
+	@Test
+	void stripsNoiseAndKeepsSectionOpenings() {
+		String readme = "# Proje\n\n"
+				+ "[![Build](https://img.shields.io/badge/build-passing.svg)](https://ci.example.com)\n\n"
+				+ "Kısa bir [açıklama](https://example.com).\n\n"
+				+ "İkinci paragraf atlanır.\n\n"
+				+ "<p align=\"center\"><img src=\"logo.png\"></p>\n\n"
+				+ "## Kurulum\n\n"
+				+ "```bash\nmvn install\nmvn test\nmvn package\n```\n\n"
+				+ "## Changelog\n\n"
+				+ "- 1.0.0 ilk sürüm\n";
+
+		String compacted = compactor.compactMarkdown(readme);
+
+		assertEquals("# Proje\n\nKısa bir açıklama.\n\n## Kurulum\n\n```bash\nmvn install\nmvn test\n// ... 1 satır daha\n```",
+				compacted);
+	}
+
+	@Test
+	void enforcesTokenBudget() {
+		ReflectionTestUtils.setField(compactor, "tokenBudget", 100);
+		StringBuilder readme = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			readme.append("## Bölüm ").append(i).append("\n\n").append("kelime ".repeat(30)).append("\n\n");
+		}
+
+		String compacted = compactor.compactMarkdown(readme.toString());
+
+		assertTrue(compacted.endsWith("[README kısaltıldı]"));
+		assertTrue(compacted.length() <= 100 * 4 + "\n[README kısaltıldı]".length());
+	}
+}
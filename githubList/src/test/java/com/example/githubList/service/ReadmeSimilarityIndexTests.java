@@ -0,0 +1,44 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadmeSimilarityIndexTests {
+
+	private static final String README = "# Todo App\n\nA simple todo application built with Spring Boot and React. "
+		+ "It shows how to build a REST API with Spring Data JPA, validate requests, handle errors globally "
+		+ "and consume the API from a React frontend using hooks and fetch. The project also contains Docker "
+		+ "compose files for PostgreSQL and a GitHub Actions workflow that runs the tests on every push. "
+		+ "Follow the installation steps below to run the backend and the frontend locally on your machine.";
+
+	private ReadmeSimilarityIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ReadmeSimilarityIndex(null);
+		ReflectionTestUtils.setField(index, "minWords", 50);
+	}
+
+	@Test
+	void forkWithChangedLinksIsNearDuplicate() {
+		String fork = README.replace("# Todo App", "# My Todo App")
+			+ "\n\nOriginal: https://github.com/someone/todo-app";
+
+		double similarity = ReadmeSimilarityIndex.estimateJaccard(index.signature(README), index.signature(fork));
+		assertTrue(similarity > 0.85, "benzerlik: " + similarity);
+	}
+
+	@Test
+	void differentReadmeIsNotDuplicateAndShortReadmeIsSkipped() {
+		String other = "# Weather CLI\n\nCommand line weather client written in Rust. It queries the open "
+			+ "meteo service, caches forecasts on disk, prints colored tables and supports multiple cities, "
+			+ "units and languages. Install it with cargo and configure your default location in the config "
+			+ "file under your home directory. Contributions are welcome, please open an issue first to discuss.";
+
+		assertTrue(ReadmeSimilarityIndex.estimateJaccard(index.signature(README), index.signature(other)) < 0.2);
+		assertNull(index.signature("# Test\n\nSadece başlık"));
+	}
+}
@@ -0,0 +1,156 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.AnalysisResult;
+import com.example.githubList.model.GitHubRepository;
+import com.example.githubList.model.RepositoryAnalysis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RepositoryAnalysisServiceTests {
+
+	private RepositoryAnalysisService analysisService;
+	private CacheService cacheService;
+	private ThreadPoolTaskExecutor refreshExecutor;
+	private RepositoryAnalysis cached;
+
+	@BeforeEach
+	void setUp() {
+		analysisService = new RepositoryAnalysisService();
+		cacheService = mock(CacheService.class);
+		refreshExecutor = mock(ThreadPoolTaskExecutor.class);
+		ReflectionTestUtils.setField(analysisService, "cacheService", cacheService);
+		ReflectionTestUtils.setField(analysisService, "analysisRefreshExecutor", refreshExecutor);
+
+		cached = new RepositoryAnalysis();
+		cached.setCachedAt(System.currentTimeMillis() - 3 * 3_600_000);
+		String cacheKey = RepositoryAnalysisService.analysisCacheKey("octo", "repo");
+		when(cacheService.getCachedAnalysis(cacheKey)).thenReturn(Optional.of(cached));
+		when(cacheService.getCachedRepository("octo", "repo")).thenReturn(Optional.of(new GitHubRepository()));
+		when(cacheService.isStale(cached)).thenReturn(true);
+	}
+
+	@Test
+	void servesStaleAnalysisAndStartsRefresh() {
+		AnalysisResult result = analysisService.analyze("octo", "repo");
+
+		assertSame(cached, result.getAnalysis());
+		assertTrue(result.isFromCache());
+		assertTrue(result.isStale());
+		verify(refreshExecutor, times(1)).execute(any(Runnable.class));
+	}
+
+	@Test
+	void concurrentStaleReadsSubmitOneRefresh() throws Exception {
+		int readers = 8;
+		ExecutorService pool = Executors.newFixedThreadPool(readers);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<AnalysisResult>> results = new ArrayList<>();
+			for (int i = 0; i < readers; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return analysisService.analyze("octo", "repo");
+				}));
+			}
+			start.countDown();
+			for (Future<AnalysisResult> result : results) {
+				assertTrue(result.get().isStale());
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		// Kuyruğa alınan yenileme çalışmadığı için repo "refreshing" kümesinde kalır
+		verify(refreshExecutor, times(1)).execute(any(Runnable.class));
+		assertEquals(1L, analysisService.getStats().get("refreshesStarted"));
+		assertEquals((long) readers - 1, analysisService.getStats().get("refreshesDeduplicated"));
+	}
+
+	@Test
+	void concurrentMissesShareOneAnalysis() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		GitHubApiService githubApiService = mockMissingRepository();
+		when(githubApiService.getRepository("octo", "missing")).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		});
+
+		List<Future<AnalysisResult>> results = analyzeConcurrently(8, release);
+		for (Future<AnalysisResult> result : results) {
+			assertNull(result.get().getRepository());
+		}
+
+		verify(githubApiService, times(1)).getRepository("octo", "missing");
+		assertEquals(1L, analysisService.getStats().get("leaders"));
+		assertEquals(7L, analysisService.getStats().get("coalesced"));
+	}
+
+	@Test
+	void leaderFailureReachesFollowersWithItsType() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		GitHubApiService githubApiService = mockMissingRepository();
+		when(githubApiService.getRepository("octo", "missing")).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			throw new GitHubRateLimitException("core", Instant.now().plusSeconds(60));
+		});
+
+		for (Future<AnalysisResult> result : analyzeConcurrently(4, release)) {
+			ExecutionException e = assertThrows(ExecutionException.class, result::get);
+			assertInstanceOf(GitHubRateLimitException.class, e.getCause());
+		}
+		verify(githubApiService, times(1)).getRepository("octo", "missing");
+	}
+
+	private GitHubApiService mockMissingRepository() {
+		GitHubApiService githubApiService = mock(GitHubApiService.class);
+		ReflectionTestUtils.setField(analysisService, "githubApiService", githubApiService);
+		ReflectionTestUtils.setField(analysisService, "analysisStore", mock(AnalysisStore.class));
+		ReflectionTestUtils.setField(analysisService, "coalesceTimeoutSeconds", 5L);
+		return githubApiService;
+	}
+
+	// Tüm takipçiler lidere katıldıktan sonra lider serbest bırakılır
+	private List<Future<AnalysisResult>> analyzeConcurrently(int callers, CountDownLatch release) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<AnalysisResult>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				Callable<AnalysisResult> call = () -> analysisService.analyze("octo", "missing");
+				results.add(pool.submit(call));
+			}
+			long deadline = System.currentTimeMillis() + 5000;
+			while ((long) analysisService.getStats().get("coalesced") < callers - 1 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			release.countDown();
+			for (Future<AnalysisResult> result : results) {
+				try {
+					result.get(5, TimeUnit.SECONDS);
+				} catch (ExecutionException ignored) {
+					// Hata durumu çağıran testte kontrol edilir
+				}
+			}
+			return results;
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
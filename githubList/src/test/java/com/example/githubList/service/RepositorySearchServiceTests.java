@@ -0,0 +1,71 @@
+package com.example.githubList.service;
+
+import com.example.githubList.model.GitHubRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RepositorySearchServiceTests {
+
+	private RepositorySearchService searchService;
+	private GitHubApiService githubApiService;
+	private CacheService cacheService;
+	private ThreadPoolTaskExecutor prefetchExecutor;
+
+	@BeforeEach
+	void setUp() {
+		searchService = new RepositorySearchService();
+		githubApiService = mock(GitHubApiService.class);
+		cacheService = mock(CacheService.class);
+		prefetchExecutor = mock(ThreadPoolTaskExecutor.class);
+		ReflectionTestUtils.setField(searchService, "githubApiService", githubApiService);
+		ReflectionTestUtils.setField(searchService, "cacheService", cacheService);
+		ReflectionTestUtils.setField(searchService, "searchPrefetchExecutor", prefetchExecutor);
+		ReflectionTestUtils.setField(searchService, "pageSize", 2);
+		ReflectionTestUtils.setField(searchService, "coalesceTimeoutSeconds", 1L);
+	}
+
+	@Test
+	void cacheHitMakesNoGitHubCall() {
+		when(cacheService.getCachedRepositories("java", "cli", 1)).thenReturn(Optional.of(repositories(2)));
+
+		RepositorySearchService.SearchPage page = searchService.search("java", "cli", 1).orElseThrow();
+
+		assertTrue(page.cached());
+		assertTrue(page.hasMore());
+		verifyNoInteractions(githubApiService, prefetchExecutor);
+	}
+
+	@Test
+	void cacheMissFetchesCachesAndPrefetchesNextPage() {
+		when(cacheService.getCachedRepositories(any(), any(), anyInt())).thenReturn(Optional.empty());
+		when(githubApiService.searchRepositories("java", "cli", 1, 2)).thenReturn(repositories(2));
+
+		RepositorySearchService.SearchPage page = searchService.search("java", "cli", 1).orElseThrow();
+
+		assertFalse(page.cached());
+		verify(githubApiService, times(1)).searchRepositories("java", "cli", 1, 2);
+		verify(cacheService).cacheRepositories("java", "cli", 1, page.repositories());
+		verify(prefetchExecutor).execute(any(Runnable.class));
+	}
+
+	@Test
+	void searchKeysKeepMissingQueryAndSeparatorsDistinct() {
+		assertNotEquals(CacheService.searchKey("java", "trending", 1), CacheService.searchKey("java", null, 1));
+		assertNotEquals(CacheService.searchKey("x", "y:z", 1), CacheService.searchKey("x:y", "z", 1));
+		assertEquals(CacheService.searchKey("Java", " CLI ", 1), CacheService.searchKey("java", "cli", 1));
+	}
+
+	private static List<GitHubRepository> repositories(int count) {
+		return Collections.nCopies(count, new GitHubRepository());
+	}
+}
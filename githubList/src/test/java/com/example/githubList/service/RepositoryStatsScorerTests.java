@@ -0,0 +1,29 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryStatsScorerTests {
+
+	@Test
+	void recencyScoresFollowPromptBands() {
+		assertEquals(100, RepositoryStatsScorer.recencyScore(0L));
+		assertEquals(90, RepositoryStatsScorer.recencyScore(7L));
+		assertEquals(89, RepositoryStatsScorer.recencyScore(8L));
+		assertEquals(70, RepositoryStatsScorer.recencyScore(30L));
+		assertEquals(69, RepositoryStatsScorer.recencyScore(31L));
+		assertEquals(50, RepositoryStatsScorer.recencyScore(90L));
+		assertEquals(49, RepositoryStatsScorer.recencyScore(91L));
+		assertEquals(30, RepositoryStatsScorer.recencyScore(1000L));
+		assertEquals(0, RepositoryStatsScorer.recencyScore(null));
+	}
+
+	@Test
+	void sharesBandBoundariesWithFingerprint() {
+		assertEquals(0, RepositoryStatsScorer.recencyBand(7));
+		assertEquals(1, RepositoryStatsScorer.recencyBand(8));
+		assertEquals(2, RepositoryStatsScorer.recencyBand(90));
+		assertEquals(3, RepositoryStatsScorer.recencyBand(91));
+	}
+}
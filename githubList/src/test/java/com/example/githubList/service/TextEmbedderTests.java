@@ -0,0 +1,26 @@
+package com.example.githubList.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextEmbedderTests {
+
+	private final TextEmbedder embedder = new TextEmbedder();
+
+	@Test
+	void relatedTextsAreCloserThanUnrelated() {
+		float[] springBoot = embedder.embed("Spring Boot REST API with JPA, PostgreSQL and Redis cache");
+		float[] springData = embedder.embed("REST API built on Spring Boot using JPA and a PostgreSQL database");
+		float[] gameEngine = embedder.embed("2D game engine in C++ with OpenGL rendering and physics");
+
+		assertEquals(1.0, TextEmbedder.cosine(springBoot, springBoot), 1e-5);
+		assertTrue(TextEmbedder.cosine(springBoot, springData) > TextEmbedder.cosine(springBoot, gameEngine));
+	}
+
+	@Test
+	void emptyTextGivesZeroVector() {
+		assertEquals(TextEmbedder.DIMENSIONS, embedder.embed(null).length);
+		assertEquals(0.0, TextEmbedder.cosine(embedder.embed(""), embedder.embed("")));
+	}
+}